@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,12 +14,43 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    // 거래 입력 경로에서 반복 조회되는 기준 데이터 (ReferenceDataResolver)
+    public static final String CATEGORIES = "categories";
+    public static final String CARDS = "cards";
+    public static final String DEFAULT_ASSET = "defaultAsset";
+    // 마감된 카드 결제 주기 명세 (CardStatementService)
+    public static final String CARD_STATEMENTS = "cardStatements";
+    // 마감된 달의 거래 목록 JSON (TransactionJsonService)
+    public static final String CLOSED_MONTH_TRANSACTIONS = "closedMonthTransactions";
+
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager("dailyMarketOutlook");
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(24, TimeUnit.HOURS)
                 .maximumSize(10));
-        return cacheManager;
+
+        // 기준 데이터는 변경 시 명시적으로 무효화하므로 만료 시간 없이 크기만 제한한다
+        for (String name : new String[]{CATEGORIES, CARDS, DEFAULT_ASSET}) {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(1_000)
+                    .recordStats()
+                    .build());
+        }
+
+        cacheManager.registerCustomCache(CARD_STATEMENTS, Caffeine.newBuilder()
+                .maximumSize(500)
+                .recordStats()
+                .build());
+
+        // 직렬화된 바이트 배열이므로 개수 대신 총 크기(64MB)로 제한한다
+        cacheManager.registerCustomCache(CLOSED_MONTH_TRANSACTIONS, Caffeine.newBuilder()
+                .maximumWeight(64L * 1024 * 1024)
+                .weigher((Object key, Object value) -> value instanceof byte[] bytes ? bytes.length : 1)
+                .recordStats()
+                .build());
+
+        // 무효화를 커밋 이후로 미뤄, 커밋 전 다른 요청이 옛 값을 다시 캐시하지 않게 한다
+        return new TransactionAwareCacheManagerProxy(cacheManager);
     }
 }
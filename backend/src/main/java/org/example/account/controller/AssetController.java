@@ -1,13 +1,22 @@
 package org.example.account.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.account.dto.AssetBalanceResponse;
 import org.example.account.dto.AssetRequest;
 import org.example.account.dto.AssetResponse;
+import org.example.account.dto.NetWorthHistoryResponse;
 import org.example.account.dto.NetWorthResponse;
+import org.example.account.service.AssetBalanceHistoryService;
 import org.example.account.service.AssetService;
+import org.example.account.service.ChangeVersions;
+import org.example.account.service.NetWorthCache;
+import org.example.account.service.NetWorthHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -16,6 +25,10 @@ import java.util.List;
 public class AssetController {
 
     private final AssetService assetService;
+    private final AssetBalanceHistoryService assetBalanceHistoryService;
+    private final NetWorthHistoryService netWorthHistoryService;
+    private final NetWorthCache netWorthCache;
+    private final ChangeVersions changeVersions;
 
     @PostMapping
     public ResponseEntity<AssetResponse> createAsset(@RequestBody AssetRequest request) {
@@ -28,8 +41,9 @@ public class AssetController {
     }
 
     @GetMapping
-    public ResponseEntity<List<AssetResponse>> getAllAssets() {
-        return ResponseEntity.ok(assetService.getAllAssets());
+    public ResponseEntity<List<AssetResponse>> getAllAssets(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(changeVersions.etag(ChangeVersions.Aggregate.ASSETS), ifNoneMatch,
+                assetService::getAllAssets);
     }
 
     @PatchMapping("/{id}/set-default")
@@ -44,7 +58,33 @@ public class AssetController {
     }
 
     @GetMapping("/net-worth")
-    public ResponseEntity<NetWorthResponse> getNetWorth() {
-        return ResponseEntity.ok(assetService.calculateNetWorth());
+    public ResponseEntity<NetWorthResponse> getNetWorth(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(changeVersions.etag(ChangeVersions.Aggregate.ASSETS), ifNoneMatch,
+                netWorthCache::get);
+    }
+
+    /**
+     * 순자산 추이 (to 생략 시 오늘, from 생략 시 to 1년 전). WEEK/MONTH는 버킷마다 마지막 날의 값
+     */
+    @GetMapping("/net-worth/history")
+    public ResponseEntity<NetWorthHistoryResponse> getNetWorthHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") NetWorthHistoryService.Granularity granularity,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ConditionalResponses.ok(changeVersions.etag(ChangeVersions.Aggregate.ASSETS), ifNoneMatch,
+                () -> netWorthHistoryService.getHistory(start, end, granularity));
+    }
+
+    /**
+     * 특정 날짜 기준 자산 잔액 (asOf 생략 시 오늘)
+     */
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<AssetBalanceResponse> getBalanceAsOf(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return ResponseEntity.ok(assetBalanceHistoryService.getBalanceAsOf(id, asOf != null ? asOf : LocalDate.now()));
     }
 }
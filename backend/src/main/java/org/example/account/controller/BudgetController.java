@@ -1,13 +1,23 @@
 package org.example.account.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.account.dto.BudgetBulkResponse;
+import org.example.account.dto.BudgetCopyRequest;
+import org.example.account.dto.BudgetGridRequest;
+import org.example.account.dto.BudgetLiveResponse;
 import org.example.account.dto.BudgetRequest;
 import org.example.account.dto.BudgetResponse;
+import org.example.account.dto.BudgetSummaryResponse;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.service.BudgetLiveService;
 import org.example.account.service.BudgetService;
+import org.example.account.service.ChangeVersions;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -16,6 +26,8 @@ import java.util.List;
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final ChangeVersions changeVersions;
+    private final BudgetLiveService budgetLiveService;
 
     @PostMapping
     public ResponseEntity<BudgetResponse> setBudget(@RequestBody BudgetRequest request) {
@@ -27,14 +39,71 @@ public class BudgetController {
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
             @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        String etag = changeVersions.etag(ChangeVersions.Aggregate.BUDGETS, ChangeVersions.Aggregate.CATEGORIES);
         if (startDate != null && endDate != null) {
-            return ResponseEntity.ok(budgetService.getBudgetsByPeriod(startDate, endDate));
+            return ConditionalResponses.ok(etag, ifNoneMatch, () -> budgetService.getBudgetsByPeriod(startDate, endDate));
         }
         if (year != null && month != null) {
-            return ResponseEntity.ok(budgetService.getMonthlyBudgets(year, month));
+            return ConditionalResponses.ok(etag, ifNoneMatch, () -> budgetService.getMonthlyBudgets(year, month));
         }
         return ResponseEntity.badRequest().build();
     }
+
+    /**
+     * 한 해의 카테고리 x 월 예산 표를 한 트랜잭션에서 일괄 설정 (null 칸은 유지)
+     */
+    @PutMapping("/grid")
+    public ResponseEntity<BudgetBulkResponse> setBudgetGrid(@RequestBody BudgetGridRequest request) {
+        return ResponseEntity.ok(budgetService.setBudgetGrid(request));
+    }
+
+    /**
+     * source 월 예산을 from~to 월로 ±adjustmentPercent% 조정해 복사
+     */
+    @PostMapping("/copy")
+    public ResponseEntity<BudgetBulkResponse> copyMonth(@RequestBody BudgetCopyRequest request) {
+        return ResponseEntity.ok(budgetService.copyMonth(request));
+    }
+
+    /**
+     * 메모리 카운터 기준 월 예산 소진 현황 (확정 거래만, DB 조회 없음). 생략 시 이번 달
+     */
+    @GetMapping("/live")
+    public ResponseEntity<BudgetLiveResponse> getLive(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month
+    ) {
+        YearMonth yearMonth = year != null && month != null ? YearMonth.of(year, month) : YearMonth.now();
+        return ResponseEntity.ok(budgetLiveService.getLive(yearMonth.getYear(), yearMonth.getMonthValue()));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<BudgetSummaryResponse> getBudgetSummary(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) PaymentMethod paymentMethod,
+            @RequestParam(required = false) Long cardId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        LocalDate start;
+        LocalDate end;
+        if (startDate != null && endDate != null) {
+            start = startDate;
+            end = endDate;
+        } else if (year != null && month != null) {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            start = yearMonth.atDay(1);
+            end = yearMonth.atEndOfMonth();
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String etag = changeVersions.transactionsETag(start, end, ChangeVersions.Aggregate.BUDGETS, ChangeVersions.Aggregate.CATEGORIES);
+        return ConditionalResponses.ok(etag, ifNoneMatch, () -> budgetService.getBudgetSummary(start, end, paymentMethod, cardId));
+    }
 }
@@ -0,0 +1,53 @@
+package org.example.account.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.example.account.dto.CacheStatsResponse;
+import org.example.account.dto.NetWorthConsistencyResponse;
+import org.example.account.service.NetWorthCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheManager cacheManager;
+    private final NetWorthCache netWorthCache;
+
+    /**
+     * 캐시별 적중률 (recordStats를 켜지 않은 캐시는 0으로 표시)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        List<CacheStatsResponse> stats = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(cache -> cache.getNativeCache() instanceof Cache<?, ?>)
+                .map(cache -> {
+                    Cache<?, ?> nativeCache = (Cache<?, ?>) cache.getNativeCache();
+                    CacheStats s = nativeCache.stats();
+                    return new CacheStatsResponse(cache.getName(), nativeCache.estimatedSize(),
+                            s.hitCount(), s.missCount(), s.hitRate(), s.evictionCount());
+                })
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 순자산 캐시를 DB에서 다시 계산한 값과 비교한다 (다르면 다시 계산한 값으로 바꾼다)
+     */
+    @PostMapping("/net-worth/check")
+    public ResponseEntity<NetWorthConsistencyResponse> checkNetWorth() {
+        return ResponseEntity.ok(netWorthCache.check());
+    }
+}
@@ -3,10 +3,16 @@ package org.example.account.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.account.dto.CardRequest;
 import org.example.account.dto.CardResponse;
+import org.example.account.dto.CardStatementResponse;
 import org.example.account.service.CardService;
+import org.example.account.service.CardStatementService;
+import org.example.account.service.ChangeVersions;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -15,15 +21,34 @@ import java.util.List;
 public class CardController {
 
     private final CardService cardService;
+    private final CardStatementService cardStatementService;
+    private final ChangeVersions changeVersions;
 
     @PostMapping
     public ResponseEntity<CardResponse> createCard(@RequestBody CardRequest request) {
         return ResponseEntity.ok(cardService.createCard(request));
     }
 
+    @PutMapping("/{id}")
+    public ResponseEntity<CardResponse> updateCard(@PathVariable Long id, @RequestBody CardRequest request) {
+        return ResponseEntity.ok(cardService.updateCard(id, request));
+    }
+
     @GetMapping
-    public ResponseEntity<List<CardResponse>> getAllCards() {
-        return ResponseEntity.ok(cardService.getAllCards());
+    public ResponseEntity<List<CardResponse>> getAllCards(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(changeVersions.etag(ChangeVersions.Aggregate.CARDS), ifNoneMatch,
+                cardService::getAllCards);
+    }
+
+    /**
+     * 결제 주기별 명세 (from/to는 마감월 yyyy-MM, 생략 시 현재 주기까지 최근 6개)
+     */
+    @GetMapping("/{id}/statements")
+    public ResponseEntity<List<CardStatementResponse>> getStatements(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(cardStatementService.getStatements(id, from, to));
     }
 
     @DeleteMapping("/{id}")
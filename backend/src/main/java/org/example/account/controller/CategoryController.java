@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.example.account.dto.CategoryRequest;
 import org.example.account.dto.CategoryResponse;
 import org.example.account.service.CategoryService;
+import org.example.account.service.ChangeVersions;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +17,7 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ChangeVersions changeVersions;
 
     @PostMapping
     public ResponseEntity<CategoryResponse> createCategory(@RequestBody CategoryRequest request) {
@@ -22,8 +25,9 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(changeVersions.etag(ChangeVersions.Aggregate.CATEGORIES), ifNoneMatch,
+                categoryService::getAllCategories);
     }
 
     @PutMapping("/{id}")
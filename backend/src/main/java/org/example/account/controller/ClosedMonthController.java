@@ -0,0 +1,36 @@
+package org.example.account.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.dto.ClosedMonthResponse;
+import org.example.account.service.ClosedMonthService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/closed-months")
+@RequiredArgsConstructor
+public class ClosedMonthController {
+
+    private final ClosedMonthService closedMonthService;
+
+    @GetMapping
+    public ResponseEntity<List<ClosedMonthResponse>> getClosedMonths() {
+        return ResponseEntity.ok(closedMonthService.getClosedMonths());
+    }
+
+    /**
+     * 월 마감: 이후 해당 월 거래의 추가/수정/삭제/확정을 거부한다
+     */
+    @PostMapping("/{year}/{month}")
+    public ResponseEntity<ClosedMonthResponse> close(@PathVariable int year, @PathVariable int month) {
+        return ResponseEntity.ok(closedMonthService.close(year, month));
+    }
+
+    @DeleteMapping("/{year}/{month}")
+    public ResponseEntity<Void> reopen(@PathVariable int year, @PathVariable int month) {
+        closedMonthService.reopen(year, month);
+        return ResponseEntity.noContent().build();
+    }
+}
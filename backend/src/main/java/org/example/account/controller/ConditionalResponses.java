@@ -0,0 +1,59 @@
+package org.example.account.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET. If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고(쿼리 없이) 304를 돌려준다.
+ * no-cache로 내려 브라우저가 매번 If-None-Match로 재검증하게 한다.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> ok(String etag, String ifNoneMatch, Supplier<T> body) {
+        if (matches(etag, ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+
+    /**
+     * 이미 직렬화된 본문(byte[] 등)을 돌려줄 때 Content-Type을 지정한다
+     */
+    static <T> ResponseEntity<T> ok(String etag, String ifNoneMatch, MediaType contentType, Supplier<T> body) {
+        if (matches(etag, ifNoneMatch)) {
+            return ok(etag, ifNoneMatch, body);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(contentType)
+                .body(body.get());
+    }
+
+    private static boolean matches(String etag, String ifNoneMatch) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.account.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.dto.ForecastResponse;
+import org.example.account.service.ForecastService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/forecast")
+@RequiredArgsConstructor
+public class ForecastController {
+
+    private final ForecastService forecastService;
+
+    /**
+     * 이번 달부터 months개월의 월별 수입/지출과 자산별 월말 잔액 예측 (최대 120개월)
+     */
+    @GetMapping
+    public ResponseEntity<ForecastResponse> forecast(@RequestParam(defaultValue = "12") int months) {
+        return ResponseEntity.ok(forecastService.forecast(months));
+    }
+}
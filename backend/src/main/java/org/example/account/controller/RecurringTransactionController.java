@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.account.dto.ApplyRecurringResponse;
 import org.example.account.dto.RecurringTransactionRequest;
 import org.example.account.dto.RecurringTransactionResponse;
+import org.example.account.service.RecurringCatchUpService;
 import org.example.account.service.RecurringTransactionService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +17,7 @@ import java.util.List;
 public class RecurringTransactionController {
 
     private final RecurringTransactionService service;
+    private final RecurringCatchUpService recurringCatchUpService;
 
     @PostMapping
     public ResponseEntity<RecurringTransactionResponse> create(@RequestBody RecurringTransactionRequest request) {
@@ -43,6 +45,14 @@ public class RecurringTransactionController {
         return ResponseEntity.ok(service.applyAllRecurringTransactions());
     }
 
+    /**
+     * 밀린 월까지 자동 적용 (매일 00:05 자동 실행되는 작업을 즉시 실행)
+     */
+    @PostMapping("/catch-up")
+    public ResponseEntity<ApplyRecurringResponse> catchUp() {
+        return ResponseEntity.ok(recurringCatchUpService.catchUp());
+    }
+
     @PostMapping("/{id}/apply")
     public ResponseEntity<ApplyRecurringResponse> applySingle(@PathVariable Long id) {
         return ResponseEntity.ok(service.applySingleRecurringTransaction(id));
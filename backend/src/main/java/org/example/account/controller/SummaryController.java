@@ -0,0 +1,28 @@
+package org.example.account.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.dto.MonthlyCategorySummaryResponse;
+import org.example.account.service.MonthlySummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/summaries")
+@RequiredArgsConstructor
+public class SummaryController {
+
+    private final MonthlySummaryService monthlySummaryService;
+
+    @GetMapping("/monthly")
+    public ResponseEntity<List<MonthlyCategorySummaryResponse>> getMonthlySummaries(@RequestParam Integer year) {
+        return ResponseEntity.ok(monthlySummaryService.getYearSummary(year));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        return ResponseEntity.ok(Map.of("rows", monthlySummaryService.rebuild()));
+    }
+}
@@ -1,13 +1,39 @@
 package org.example.account.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.dto.AutoConfirmResponse;
+import org.example.account.dto.StatementImportRequest;
+import org.example.account.dto.StatementImportResponse;
+import org.example.account.dto.TransactionBatchRequest;
+import org.example.account.dto.TransactionBatchResponse;
+import org.example.account.dto.TransactionFilter;
+import org.example.account.dto.TransactionPageResponse;
 import org.example.account.dto.TransactionRequest;
 import org.example.account.dto.TransactionResponse;
+import org.example.account.dto.TransactionSearchResponse;
+import org.example.account.service.AutoConfirmService;
+import org.example.account.service.ChangeVersions;
+import org.example.account.service.LedgerExportService;
+import org.example.account.service.StatementImportService;
+import org.example.account.service.TransactionBatchService;
+import org.example.account.service.TransactionJsonService;
 import org.example.account.service.TransactionService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,12 +43,53 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final StatementImportService statementImportService;
+    private final TransactionBatchService transactionBatchService;
+    private final LedgerExportService ledgerExportService;
+    private final AutoConfirmService autoConfirmService;
+    private final ChangeVersions changeVersions;
+    private final TransactionJsonService transactionJsonService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(@RequestBody TransactionRequest request) {
         return ResponseEntity.ok(transactionService.createTransaction(request));
     }
 
+    /**
+     * 생성/수정/삭제/확정 작업 목록을 한 DB 트랜잭션으로 처리한다 (하나라도 실패하면 전체 롤백)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResponse> applyBatch(@RequestBody TransactionBatchRequest request) {
+        return ResponseEntity.ok(transactionBatchService.apply(request.operations()));
+    }
+
+    /**
+     * 날짜가 지난 예정 거래 일괄 확정 (매일 00:10 자동 실행)
+     */
+    @PostMapping("/auto-confirm")
+    public ResponseEntity<AutoConfirmResponse> confirmDueTransactions() {
+        return ResponseEntity.ok(autoConfirmService.confirmDueTransactions());
+    }
+
+    /**
+     * 명세서 CSV 대량 가져오기. 500건 묶음마다 따로 커밋하므로 전체가 하나의 트랜잭션이 아니다.
+     * 도중에 실패하면 이미 커밋된 묶음은 남고, 500 응답 본문의 committedThroughLine(커밋된 마지막 줄)과 importedCount로
+     * 어디까지 들어갔는지 알려 준다. 그 다음 줄부터 다시 올리면 된다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementImportResponse> importStatement(
+            @RequestPart("file") MultipartFile file,
+            @RequestPart("options") StatementImportRequest options
+    ) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            StatementImportResponse response = statementImportService.importStatement(csv, options);
+            return response.completed()
+                    ? ResponseEntity.ok(response)
+                    : ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TransactionResponse> updateTransaction(@PathVariable Long id, @RequestBody TransactionRequest request) {
         return ResponseEntity.ok(transactionService.updateTransaction(id, request));
@@ -39,32 +106,138 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.confirmTransaction(id));
     }
 
+    /**
+     * 기간별 조회. 결제수단 필터가 없으면 마감 월은 미리 직렬화된 JSON을 이어 붙여 응답한다.
+     * includeRecurring=true면 아직 생성되지 않은 고정 비용 발생분(id 없음)을 날짜순으로 함께 돌려준다.
+     */
     @GetMapping
-    public ResponseEntity<List<TransactionResponse>> getTransactions(
+    public ResponseEntity<?> getTransactions(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) org.example.account.domain.PaymentMethod paymentMethod
+            @RequestParam(required = false) org.example.account.domain.PaymentMethod paymentMethod,
+            @RequestParam(defaultValue = "false") boolean includeRecurring,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        if (includeRecurring) {
+            // 가상 발생분은 오늘 이후만 펼치므로 날짜가 바뀌면 변경 없이도 응답이 달라진다
+            String etag = ChangeVersions.asOf(changeVersions.transactionsETag(startDate, endDate, ChangeVersions.Aggregate.CATEGORIES,
+                    ChangeVersions.Aggregate.CARDS, ChangeVersions.Aggregate.RECURRING, ChangeVersions.Aggregate.ASSETS), LocalDate.now());
+            return ConditionalResponses.ok(etag, ifNoneMatch,
+                    () -> transactionService.getTransactionsWithOccurrences(startDate, endDate, paymentMethod));
+        }
+        String etag = changeVersions.transactionsETag(startDate, endDate, ChangeVersions.Aggregate.CATEGORIES, ChangeVersions.Aggregate.CARDS);
         if (paymentMethod != null) {
-            return ResponseEntity.ok(transactionService.getTransactionsByPaymentMethod(paymentMethod, startDate, endDate));
+            return ConditionalResponses.ok(etag, ifNoneMatch,
+                    () -> transactionService.getTransactionsByPaymentMethod(paymentMethod, startDate, endDate));
         }
-        return ResponseEntity.ok(transactionService.getTransactions(startDate, endDate));
+        return ConditionalResponses.ok(etag, ifNoneMatch, MediaType.APPLICATION_JSON,
+                () -> transactionJsonService.getTransactionsJson(startDate, endDate));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<TransactionPageResponse> getTransactionPage(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) PaymentMethod paymentMethod,
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) Long cardId,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        TransactionFilter filter = new TransactionFilter(startDate, endDate, paymentMethod, categoryIds, assetId, cardId, minAmount, maxAmount);
+        return ResponseEntity.ok(transactionService.getTransactionPage(filter, cursorDate, cursorId, size));
+    }
+
+    /**
+     * 메모 전문 검색 (전체 기간, 관련도 순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TransactionSearchResponse> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(transactionService.searchTransactions(q, page, size));
+    }
+
+    /**
+     * 거래 원장 내보내기 (기간 생략 시 전체). format=CSV|NDJSON, gzip=true면 gzip 압축
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLedger(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") LedgerExportService.Format format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        String filename = "ledger" + (format == LedgerExportService.Format.CSV ? ".csv" : ".ndjson") + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : format == LedgerExportService.Format.CSV ? MediaType.parseMediaType("text/csv;charset=UTF-8") : MediaType.APPLICATION_NDJSON;
+
+        StreamingResponseBody body = out -> ledgerExportService.export(startDate, endDate, format, gzip, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(contentType)
+                .body(body);
     }
-    
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) PaymentMethod paymentMethod,
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) Long assetId,
+            @RequestParam(required = false) Long cardId,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount
+    ) {
+        TransactionFilter filter = new TransactionFilter(startDate, endDate, paymentMethod, categoryIds, assetId, cardId, minAmount, maxAmount);
+        StreamingResponseBody body = out -> transactionService.streamTransactions(filter, row -> writeLine(out, row));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 예정 거래 + 아직 생성되지 않은 고정 비용 발생분 (endDate 생략 시 이번 달 포함 3개월)
+     */
     @GetMapping("/planned")
-    public ResponseEntity<List<TransactionResponse>> getPlannedTransactions() {
-        return ResponseEntity.ok(transactionService.getFuturePlannedTransactions());
+    public ResponseEntity<List<TransactionResponse>> getPlannedTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 오늘 이후만 돌려주고 기본 기간도 이번 달 기준이므로 날짜를 ETag에 넣는다
+        String etag = ChangeVersions.asOf(changeVersions.etag(ChangeVersions.Aggregate.TRANSACTIONS, ChangeVersions.Aggregate.CATEGORIES,
+                ChangeVersions.Aggregate.CARDS, ChangeVersions.Aggregate.RECURRING, ChangeVersions.Aggregate.ASSETS), LocalDate.now());
+        return ConditionalResponses.ok(etag, ifNoneMatch, () -> transactionService.getFuturePlannedTransactions(endDate));
     }
 
     @GetMapping("/by-card/{cardId}")
     public ResponseEntity<List<TransactionResponse>> getTransactionsByCard(
             @PathVariable Long cardId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         if (startDate != null && endDate != null) {
-            return ResponseEntity.ok(transactionService.getTransactionsByCard(cardId, startDate, endDate));
+            String etag = changeVersions.transactionsETag(startDate, endDate, ChangeVersions.Aggregate.CATEGORIES, ChangeVersions.Aggregate.CARDS);
+            return ConditionalResponses.ok(etag, ifNoneMatch, () -> transactionService.getTransactionsByCard(cardId, startDate, endDate));
+        }
+        String etag = changeVersions.etag(ChangeVersions.Aggregate.TRANSACTIONS, ChangeVersions.Aggregate.CATEGORIES, ChangeVersions.Aggregate.CARDS);
+        return ConditionalResponses.ok(etag, ifNoneMatch, () -> transactionService.getTransactionsByCard(cardId));
+    }
+
+    private void writeLine(OutputStream out, TransactionResponse row) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return ResponseEntity.ok(transactionService.getTransactionsByCard(cardId));
     }
-}
\ No newline at end of file
+}
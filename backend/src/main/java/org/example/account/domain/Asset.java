@@ -4,11 +4,13 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
 @Entity
 @Getter
+@DynamicUpdate // 변경된 컬럼만 UPDATE: 원자적으로 갱신된 balance를 오래된 엔티티 값으로 덮어쓰지 않도록 한다
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Asset {
 
@@ -56,12 +58,4 @@ public class Asset {
         this.balance = balance;
         this.purchasePrice = purchasePrice;
     }
-
-    public void addBalance(BigDecimal amount) {
-        this.balance = this.balance.add(amount);
-    }
-
-    public void subtractBalance(BigDecimal amount) {
-        this.balance = this.balance.subtract(amount);
-    }
 }
@@ -0,0 +1,49 @@
+package org.example.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 자산 잔액 변동 이력. 추가만 하고 수정/삭제하지 않는다 (자산 삭제 시 제외).
+ * effectiveDate는 거래 날짜 기준이며, 같은 작업 안의 (자산, 날짜)별 변동은 한 행으로 합쳐 기록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "asset_balance_journal", indexes = @Index(name = "idx_balance_journal_asset_date", columnList = "asset_id, effective_date, delta"))
+public class AssetBalanceJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private Long assetId;
+
+    @Column(nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(nullable = false)
+    private BigDecimal delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BalanceChangeSource source;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public AssetBalanceJournal(Long assetId, LocalDate effectiveDate, BigDecimal delta, BalanceChangeSource source) {
+        this.assetId = assetId;
+        this.effectiveDate = effectiveDate;
+        this.delta = delta;
+        this.source = source;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 특정 날짜(월말) 기준 자산 잔액. 과거 잔액 조회 시 이 값에서부터 이력을 재생한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "asset_balance_snapshot", uniqueConstraints = @UniqueConstraint(
+        name = "uk_balance_snapshot_asset_date",
+        columnNames = {"asset_id", "snapshot_date"}
+))
+public class AssetBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private Long assetId;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private BigDecimal balance;
+}
@@ -0,0 +1,11 @@
+package org.example.account.domain;
+
+public enum BalanceChangeSource {
+    OPENING,     // 자산 등록 시 최초 잔액
+    TRANSACTION, // 거래 등록/수정/삭제/확정
+    RECURRING,   // 고정 비용 적용
+    IMPORT,      // 명세서 대량 가져오기
+    AUTO_CONFIRM, // 예정 거래 자동 확정
+    ADJUSTMENT,  // 자산 잔액 직접 수정
+    CLOSING      // 자산 삭제 시 남은 잔액 정리
+}
@@ -0,0 +1,54 @@
+package org.example.account.domain;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 카드 한 결제 주기. statementMonth는 마감일이 속한 달이다.
+ * 예) 마감일 14일, 결제일 1일 → 2025-06 주기는 2025-05-15 ~ 2025-06-14, 결제일 2025-07-01
+ */
+public record BillingCycle(
+        YearMonth statementMonth,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate paymentDate
+) {
+    public static BillingCycle of(Card card, YearMonth statementMonth) {
+        if (!card.hasBillingCycle()) {
+            throw new IllegalStateException("결제 주기가 설정되지 않은 카드입니다: " + card.getName());
+        }
+        LocalDate end = closingDate(card, statementMonth);
+        LocalDate start = closingDate(card, statementMonth.minusMonths(1)).plusDays(1);
+
+        // 결제일은 마감일 이후 처음 돌아오는 paymentDay
+        LocalDate payment = dayOf(statementMonth, card.getPaymentDay());
+        if (!payment.isAfter(end)) {
+            payment = dayOf(statementMonth.plusMonths(1), card.getPaymentDay());
+        }
+        return new BillingCycle(statementMonth, start, end, payment);
+    }
+
+    /**
+     * 해당 날짜의 거래가 청구되는 주기
+     */
+    public static BillingCycle containing(Card card, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return date.isAfter(closingDate(card, month)) ? of(card, month.plusMonths(1)) : of(card, month);
+    }
+
+    public boolean isClosed(LocalDate today) {
+        return endDate.isBefore(today);
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    private static LocalDate closingDate(Card card, YearMonth month) {
+        return dayOf(month, card.getClosingDay());
+    }
+
+    private static LocalDate dayOf(YearMonth month, int day) {
+        return month.atDay(Math.min(day, month.lengthOfMonth()));
+    }
+}
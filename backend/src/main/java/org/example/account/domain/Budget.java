@@ -6,10 +6,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_budget_period_category", columnNames = {"period_month", "category_id"}))
 public class Budget {
 
     @Id
@@ -22,6 +24,9 @@ public class Budget {
     @Column(nullable = false)
     private Integer month;
 
+    @Column(nullable = false)
+    private Integer periodMonth; // year * 12 + month. 기간 조회/유일 제약용 (uk_budget_period_category)
+
     @Column(nullable = false)
     private BigDecimal amount;
 
@@ -32,6 +37,7 @@ public class Budget {
     public Budget(Integer year, Integer month, BigDecimal amount, Category category) {
         this.year = year;
         this.month = month;
+        this.periodMonth = periodOf(year, month);
         this.amount = amount;
         this.category = category;
     }
@@ -39,4 +45,12 @@ public class Budget {
     public void updateAmount(BigDecimal amount) {
         this.amount = amount;
     }
+
+    public static int periodOf(int year, int month) {
+        return year * 12 + month;
+    }
+
+    public static int periodOf(LocalDate date) {
+        return periodOf(date.getYear(), date.getMonthValue());
+    }
 }
@@ -21,6 +21,10 @@ public class Card {
     @Column(nullable = false)
     private CardType type;
 
+    private Integer closingDay; // 결제 주기 마감일 (1~31)
+
+    private Integer paymentDay; // 결제일 (1~31)
+
     public Card(String name, CardType type) {
         this.name = name;
         this.type = type;
@@ -30,4 +34,19 @@ public class Card {
         this.name = name;
         this.type = type;
     }
+
+    public void updateBillingCycle(Integer closingDay, Integer paymentDay) {
+        if ((closingDay == null) != (paymentDay == null)) {
+            throw new IllegalArgumentException("마감일과 결제일은 함께 지정해야 합니다.");
+        }
+        if (closingDay != null && (closingDay < 1 || closingDay > 31 || paymentDay < 1 || paymentDay > 31)) {
+            throw new IllegalArgumentException("마감일과 결제일은 1~31 사이여야 합니다.");
+        }
+        this.closingDay = closingDay;
+        this.paymentDay = paymentDay;
+    }
+
+    public boolean hasBillingCycle() {
+        return closingDay != null;
+    }
 }
@@ -0,0 +1,40 @@
+package org.example.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감된 달. 마감 후 해당 달의 거래는 바뀌지 않으므로 직렬화 결과를 캐시해 재사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "closed_month", uniqueConstraints = @UniqueConstraint(
+        name = "uk_closed_month",
+        columnNames = {"year", "month"}
+))
+public class ClosedMonth {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false)
+    private LocalDateTime closedAt;
+
+    public ClosedMonth(Integer year, Integer month) {
+        this.year = year;
+        this.month = month;
+        this.closedAt = LocalDateTime.now();
+    }
+}
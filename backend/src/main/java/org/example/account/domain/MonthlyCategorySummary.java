@@ -0,0 +1,48 @@
+package org.example.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Transaction의 월별 집계 행. 직접 수정하지 않고 MonthlySummaryService의 upsert로만 갱신된다.
+ * 파생 데이터이므로 category에 FK를 두지 않는다 (재구축 시 정리됨).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "monthly_category_summary", uniqueConstraints = @UniqueConstraint(
+        name = "uk_monthly_category_summary",
+        columnNames = {"year", "month", "category_id", "payment_method", "is_confirmed"}
+))
+public class MonthlyCategorySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Column(nullable = false)
+    private boolean isConfirmed;
+
+    @Column(nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private long txCount;
+}
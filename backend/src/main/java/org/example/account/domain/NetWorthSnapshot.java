@@ -0,0 +1,31 @@
+package org.example.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 하루 한 행의 순자산 합계 (자산별 잔액은 asset_daily_balance). 순자산 추이 차트는 이 테이블만 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "net_worth_snapshot")
+public class NetWorthSnapshot {
+
+    @Id
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private BigDecimal totalAssets;
+
+    @Column(nullable = false)
+    private BigDecimal totalLiabilities; // 부채
+
+    @Column(nullable = false)
+    private BigDecimal netWorth;
+}
@@ -0,0 +1,29 @@
+package org.example.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 순자산 스냅샷이 만들어진 마지막 날짜 (한 행). 잔액 쓰기와 스냅샷(일별 순자산, 월말 잔액) 생성이 이 행의 잠금으로 순서를 맞춘다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "net_worth_snapshot_marker")
+public class NetWorthSnapshotMarker {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    private LocalDate latestDate; // 아직 스냅샷이 없으면 null
+
+    public void advanceTo(LocalDate date) {
+        this.latestDate = date;
+    }
+}
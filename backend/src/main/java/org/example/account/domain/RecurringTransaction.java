@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Entity
 @Getter
@@ -50,6 +51,8 @@ public class RecurringTransaction {
 
     private LocalDate endDate; // 고정비용 종료일 (nullable)
 
+    private LocalDate appliedThrough; // 자동 적용이 끝난 마지막 월의 1일 (nullable)
+
     public RecurringTransaction(String name, BigDecimal amount, Integer dayOfMonth, PaymentMethod paymentMethod, Card card, Category category, Asset asset, Asset toAsset, LocalDate startDate, LocalDate endDate) {
         this.name = name;
         this.amount = amount;
@@ -75,4 +78,31 @@ public class RecurringTransaction {
         this.startDate = startDate;
         this.endDate = endDate;
     }
+
+    /**
+     * 시작일이 속한 월부터 종료일이 속한 월까지 적용 대상이다
+     */
+    public boolean isActiveIn(YearMonth month) {
+        if (startDate != null && month.isBefore(YearMonth.from(startDate))) {
+            return false;
+        }
+        return endDate == null || !month.isAfter(YearMonth.from(endDate));
+    }
+
+    /**
+     * 해당 월의 발생일. 월의 마지막 날보다 dayOfMonth가 크면 마지막 날로 본다
+     */
+    public LocalDate occurrenceDate(YearMonth month) {
+        return month.atDay(Math.min(dayOfMonth, month.lengthOfMonth()));
+    }
+
+    /**
+     * 자동 적용을 처음 시작할 월. 적용 이력이 없으면 시작일이 속한 월, 시작일도 없으면 null (호출 측에서 이번 달로 본다)
+     */
+    public YearMonth nextUnappliedMonth() {
+        if (appliedThrough != null) {
+            return YearMonth.from(appliedThrough).plusMonths(1);
+        }
+        return startDate != null ? YearMonth.from(startDate) : null;
+    }
 }
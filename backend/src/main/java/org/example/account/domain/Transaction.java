@@ -11,6 +11,14 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_transaction_date", columnList = "date"),
+        @Index(name = "idx_transaction_payment_method_date", columnList = "payment_method, date"),
+        @Index(name = "idx_transaction_card_date", columnList = "card_id, date"),
+        @Index(name = "idx_transaction_recurring_date", columnList = "recurring_transaction_id, date"),
+        @Index(name = "idx_transaction_confirmed_date", columnList = "is_confirmed, date"),
+        @Index(name = "idx_transaction_date_category_amount", columnList = "date, category_id, is_confirmed, amount")
+})
 public class Transaction {
 
     @Id
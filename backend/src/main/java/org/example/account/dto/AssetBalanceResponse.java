@@ -0,0 +1,12 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record AssetBalanceResponse(
+        Long assetId,
+        LocalDate asOf,
+        BigDecimal balance,
+        LocalDate snapshotDate // 계산 시작점으로 사용한 스냅샷 날짜 (없으면 null)
+) {
+}
@@ -0,0 +1,8 @@
+package org.example.account.dto;
+
+public record AutoConfirmResponse(
+        int confirmedCount,
+        int chunkCount,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,9 @@
+package org.example.account.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 예산 설정 결과. budgets는 대상 기간의 설정 후 예산 전체.
+ */
+public record BudgetBulkResponse(int updatedCount, List<BudgetResponse> budgets) {
+}
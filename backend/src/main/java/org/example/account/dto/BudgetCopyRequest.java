@@ -0,0 +1,18 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * source 월의 예산을 from~to 월로 복사한다. adjustmentPercent(예: 5, -10)만큼 증감하고 원 단위로 반올림한다.
+ * categoryIds가 비어 있으면 source 월의 모든 카테고리를 복사한다.
+ */
+public record BudgetCopyRequest(
+        YearMonth source,
+        YearMonth from,
+        YearMonth to,
+        BigDecimal adjustmentPercent,
+        List<Long> categoryIds
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 한 해의 카테고리 x 월 예산 표. amounts는 1~12월 순서의 12칸이며 null인 칸은 바꾸지 않는다.
+ */
+public record BudgetGridRequest(Integer year, List<Row> rows) {
+
+    public record Row(Long categoryId, List<BigDecimal> amounts) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.account.dto;
+
+import java.util.List;
+
+/**
+ * 메모리 카운터 기준 월 예산 소진 현황. 금액은 원 단위 정수이며 확정 거래만 반영한다.
+ */
+public record BudgetLiveResponse(
+        int year,
+        int month,
+        long totalBudget,
+        long totalSpent,
+        List<CategoryLive> categories
+) {
+
+    public record CategoryLive(
+            Long categoryId,
+            String categoryName,
+            long budget,
+            long spent,
+            long remaining,
+            double percent
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record BudgetSummaryResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        BigDecimal totalExpenseBudget, // 지출 카테고리 예산 합계
+        BigDecimal totalRemaining, // 지출 예산 - 지출
+        List<CategoryBudgetSummary> categories
+) {
+}
@@ -2,5 +2,10 @@ package org.example.account.dto;
 
 import org.example.account.domain.CardType;
 
-public record CardRequest(String name, CardType type) {
+public record CardRequest(
+        String name,
+        CardType type,
+        Integer closingDay, // 결제 주기 마감일 (선택)
+        Integer paymentDay  // 결제일 (선택)
+) {
 }
@@ -3,8 +3,8 @@ package org.example.account.dto;
 import org.example.account.domain.Card;
 import org.example.account.domain.CardType;
 
-public record CardResponse(Long id, String name, CardType type) {
+public record CardResponse(Long id, String name, CardType type, Integer closingDay, Integer paymentDay) {
     public static CardResponse from(Card card) {
-        return new CardResponse(card.getId(), card.getName(), card.getType());
+        return new CardResponse(card.getId(), card.getName(), card.getType(), card.getClosingDay(), card.getPaymentDay());
     }
 }
@@ -0,0 +1,20 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+public record CardStatementResponse(
+        Long cardId,
+        YearMonth statementMonth, // 마감일이 속한 달
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate paymentDate,
+        boolean closed,
+        BigDecimal totalAmount,     // 지출 - 수입(환불)
+        BigDecimal confirmedAmount, // 그중 확정분
+        int transactionCount,
+        List<TransactionResponse> transactions
+) {
+}
@@ -0,0 +1,9 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리(및 확정 여부)별 GROUP BY 합계 행.
+ */
+public record CategoryAmountRow(Long categoryId, Boolean confirmed, BigDecimal amount) {
+}
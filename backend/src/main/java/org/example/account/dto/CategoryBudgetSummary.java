@@ -0,0 +1,17 @@
+package org.example.account.dto;
+
+import org.example.account.domain.TransactionType;
+
+import java.math.BigDecimal;
+
+public record CategoryBudgetSummary(
+        Long categoryId,
+        String categoryName,
+        TransactionType type,
+        BigDecimal budgetAmount,
+        BigDecimal actualAmount, // 예정 거래 포함 합계
+        BigDecimal plannedAmount, // 그중 미확정(예정) 금액
+        BigDecimal remainingAmount, // 예산 - 실적
+        double percent
+) {
+}
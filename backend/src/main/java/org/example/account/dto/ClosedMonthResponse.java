@@ -0,0 +1,15 @@
+package org.example.account.dto;
+
+import org.example.account.domain.ClosedMonth;
+
+import java.time.LocalDateTime;
+
+public record ClosedMonthResponse(
+        Integer year,
+        Integer month,
+        LocalDateTime closedAt
+) {
+    public static ClosedMonthResponse from(ClosedMonth closedMonth) {
+        return new ClosedMonthResponse(closedMonth.getYear(), closedMonth.getMonth(), closedMonth.getClosedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.account.dto;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 현금 흐름 예측. 금액은 모두 원 단위 정수.
+ */
+public record ForecastResponse(
+        LocalDate asOf,
+        List<MonthForecast> months,
+        List<AssetForecast> assets
+) {
+
+    public record MonthForecast(
+            YearMonth month,
+            long income,
+            long expense,
+            long netWorth // 월말 순자산 (부채 제외)
+    ) {
+    }
+
+    public record AssetForecast(
+            Long assetId,
+            String name,
+            String type,
+            long currentBalance,
+            long[] monthEndBalances // months와 같은 순서
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * (연, 월, 카테고리)별 합계 행.
+ */
+public record MonthlyCategoryAmountRow(Integer year, Integer month, Long categoryId, BigDecimal amount) {
+}
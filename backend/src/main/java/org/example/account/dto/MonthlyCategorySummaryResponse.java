@@ -0,0 +1,34 @@
+package org.example.account.dto;
+
+import org.example.account.domain.Category;
+import org.example.account.domain.MonthlyCategorySummary;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.TransactionType;
+
+import java.math.BigDecimal;
+
+public record MonthlyCategorySummaryResponse(
+        Integer year,
+        Integer month,
+        Long categoryId,
+        String categoryName,
+        TransactionType categoryType,
+        PaymentMethod paymentMethod,
+        boolean isConfirmed,
+        BigDecimal totalAmount,
+        long count
+) {
+    public static MonthlyCategorySummaryResponse from(MonthlyCategorySummary summary, Category category) {
+        return new MonthlyCategorySummaryResponse(
+                summary.getYear(),
+                summary.getMonth(),
+                summary.getCategoryId(),
+                category.getName(),
+                category.getType(),
+                summary.getPaymentMethod(),
+                summary.isConfirmed(),
+                summary.getTotalAmount(),
+                summary.getTxCount()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.account.dto;
+
+/**
+ * 순자산 캐시 점검 결과. checked가 false면 점검 중 잔액 쓰기가 커밋되어 판정하지 않은 것이다.
+ * repaired는 불일치를 발견해 캐시를 다시 계산한 값으로 바꿨다는 뜻이다.
+ */
+public record NetWorthConsistencyResponse(
+        boolean checked,
+        boolean consistent,
+        boolean repaired,
+        NetWorthResponse cached,
+        NetWorthResponse recomputed
+) {
+}
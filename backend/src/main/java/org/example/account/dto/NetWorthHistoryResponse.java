@@ -0,0 +1,23 @@
+package org.example.account.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 순자산 추이. points는 granularity 버킷마다 그 버킷의 마지막 스냅샷 한 건이다 (date는 실제 스냅샷 날짜).
+ */
+public record NetWorthHistoryResponse(
+        LocalDate from,
+        LocalDate to,
+        String granularity,
+        List<Point> points
+) {
+    public record Point(
+            LocalDate date,
+            BigDecimal totalAssets,
+            BigDecimal totalLiabilities, // 부채
+            BigDecimal netWorth // 순자산
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.account.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 고정 비용으로 이미 생성된 거래의 (고정 비용 id, 날짜) 행.
+ */
+public record RecurringOccurrenceRow(Long recurringTransactionId, LocalDate date) {
+}
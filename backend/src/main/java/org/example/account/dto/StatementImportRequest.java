@@ -0,0 +1,28 @@
+package org.example.account.dto;
+
+import org.example.account.domain.PaymentMethod;
+
+import java.util.List;
+
+/**
+ * 은행/카드 명세서 CSV 가져오기 옵션. 컬럼 번호는 0부터 시작한다.
+ * depositColumn을 지정하면 amountColumn은 출금액, depositColumn은 입금액 컬럼으로 해석한다.
+ * 지정하지 않으면 amountColumn 하나의 부호로 수입/지출을 구분한다 (음수 = 지출, positiveAmountIsExpense면 양수도 지출).
+ */
+public record StatementImportRequest(
+        PaymentMethod paymentMethod,
+        Long cardId,
+        Long assetId,
+        Integer dateColumn,
+        Integer amountColumn,
+        Integer depositColumn,
+        Integer memoColumn,
+        String datePattern,
+        Boolean hasHeader,
+        Boolean positiveAmountIsExpense,
+        Boolean isConfirmed,
+        Long defaultExpenseCategoryId,
+        Long defaultIncomeCategoryId,
+        List<StatementImportRule> rules
+) {
+}
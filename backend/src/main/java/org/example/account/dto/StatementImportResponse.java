@@ -0,0 +1,15 @@
+package org.example.account.dto;
+
+import java.util.List;
+
+public record StatementImportResponse(
+        boolean completed, // false면 도중에 중단됨 (committedThroughLine까지는 커밋됨)
+        int committedThroughLine, // 커밋된 마지막 CSV 줄 번호 (헤더 포함, 없으면 0)
+        int importedCount,
+        int skippedCount,
+        int chunkCount,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<String> errors // 최대 100건 (+ 중단 사유 1건)
+) {
+}
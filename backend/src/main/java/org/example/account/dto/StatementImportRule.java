@@ -0,0 +1,7 @@
+package org.example.account.dto;
+
+/**
+ * 메모에 keyword가 포함되면(대소문자 무시) 해당 카테고리/자산으로 분류한다. assetId는 선택.
+ */
+public record StatementImportRule(String keyword, Long categoryId, Long assetId) {
+}
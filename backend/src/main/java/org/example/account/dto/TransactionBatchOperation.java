@@ -0,0 +1,15 @@
+package org.example.account.dto;
+
+/**
+ * 일괄 처리 요청의 개별 작업.
+ * CREATE는 transaction만, DELETE/CONFIRM은 id만, UPDATE는 둘 다 필요하다.
+ */
+public record TransactionBatchOperation(
+        Type type,
+        Long id,
+        TransactionRequest transaction
+) {
+    public enum Type {
+        CREATE, UPDATE, DELETE, CONFIRM
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.account.dto;
+
+import java.util.List;
+
+public record TransactionBatchRequest(
+        List<TransactionBatchOperation> operations
+) {
+}
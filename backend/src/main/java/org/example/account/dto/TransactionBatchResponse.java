@@ -0,0 +1,8 @@
+package org.example.account.dto;
+
+import java.util.List;
+
+public record TransactionBatchResponse(
+        List<TransactionBatchResult> results // 요청 순서와 같다
+) {
+}
@@ -0,0 +1,8 @@
+package org.example.account.dto;
+
+public record TransactionBatchResult(
+        TransactionBatchOperation.Type type,
+        Long id,
+        TransactionResponse transaction // DELETE는 null
+) {
+}
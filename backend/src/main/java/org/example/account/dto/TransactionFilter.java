@@ -0,0 +1,23 @@
+package org.example.account.dto;
+
+import org.example.account.domain.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래 목록 조회 조건. startDate/endDate 외의 항목은 모두 선택(null이면 미적용)이다.
+ * assetId는 출금(asset) 또는 입금(toAsset) 자산 어느 쪽이든 일치하면 포함한다.
+ */
+public record TransactionFilter(
+        LocalDate startDate,
+        LocalDate endDate,
+        PaymentMethod paymentMethod,
+        List<Long> categoryIds,
+        Long assetId,
+        Long cardId,
+        BigDecimal minAmount,
+        BigDecimal maxAmount
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.account.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * (date, id) 키셋 페이지. 다음 페이지는 nextCursorDate/nextCursorId를 그대로 cursorDate/cursorId로 넘겨 조회한다.
+ */
+public record TransactionPageResponse(
+        List<TransactionResponse> content,
+        boolean hasNext,
+        LocalDate nextCursorDate,
+        Long nextCursorId
+) {
+}
@@ -1,6 +1,8 @@
 package org.example.account.dto;
 
+import org.example.account.domain.Asset;
 import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.RecurringTransaction;
 import org.example.account.domain.Transaction;
 
 import java.math.BigDecimal;
@@ -20,7 +22,8 @@ public record TransactionResponse(
         Long assetId,
         String assetName,
         Long toAssetId,
-        String toAssetName
+        String toAssetName,
+        Long recurringTransactionId // 고정 비용으로 생성된 거래. id가 null이면 아직 저장되지 않은 가상 발생분
 ) {
     public static TransactionResponse from(Transaction transaction) {
         return new TransactionResponse(
@@ -37,7 +40,32 @@ public record TransactionResponse(
                 transaction.getAsset() != null ? transaction.getAsset().getId() : null,
                 transaction.getAsset() != null ? transaction.getAsset().getName() : null,
                 transaction.getToAsset() != null ? transaction.getToAsset().getId() : null,
-                transaction.getToAsset() != null ? transaction.getToAsset().getName() : null
+                transaction.getToAsset() != null ? transaction.getToAsset().getName() : null,
+                transaction.getRecurringTransaction() != null ? transaction.getRecurringTransaction().getId() : null
+        );
+    }
+
+    /**
+     * 고정 비용 규칙에서 펼친 가상 발생분 (저장 전이므로 id 없음, 예정 상태)
+     */
+    public static TransactionResponse occurrence(RecurringTransaction rt, LocalDate date, Asset defaultAsset) {
+        Asset asset = rt.getAsset() != null ? rt.getAsset() : defaultAsset;
+        return new TransactionResponse(
+                null,
+                date,
+                rt.getAmount(),
+                rt.getName() + " (고정비용)",
+                rt.getPaymentMethod(),
+                rt.getCategory().getName(),
+                rt.getCategory().getId(),
+                false,
+                rt.getCard() != null ? rt.getCard().getName() : null,
+                rt.getCard() != null ? rt.getCard().getId() : null,
+                asset != null ? asset.getId() : null,
+                asset != null ? asset.getName() : null,
+                rt.getToAsset() != null ? rt.getToAsset().getId() : null,
+                rt.getToAsset() != null ? rt.getToAsset().getName() : null,
+                rt.getId()
         );
     }
 }
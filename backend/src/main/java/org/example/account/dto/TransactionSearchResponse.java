@@ -0,0 +1,11 @@
+package org.example.account.dto;
+
+import java.util.List;
+
+public record TransactionSearchResponse(
+        List<TransactionResponse> content, // 관련도 높은 순 (같으면 최신 거래 우선)
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
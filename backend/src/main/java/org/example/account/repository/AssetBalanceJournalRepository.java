@@ -0,0 +1,23 @@
+package org.example.account.repository;
+
+import org.example.account.domain.AssetBalanceJournal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface AssetBalanceJournalRepository extends JpaRepository<AssetBalanceJournal, Long> {
+
+    @Query("SELECT COALESCE(SUM(j.delta), 0) FROM AssetBalanceJournal j " +
+            "WHERE j.assetId = :assetId AND j.effectiveDate > :after AND j.effectiveDate <= :until")
+    BigDecimal sumDeltaBetween(@Param("assetId") Long assetId, @Param("after") LocalDate after, @Param("until") LocalDate until);
+
+    @Query("SELECT COALESCE(SUM(j.delta), 0) FROM AssetBalanceJournal j " +
+            "WHERE j.assetId = :assetId AND j.effectiveDate <= :until")
+    BigDecimal sumDeltaUntil(@Param("assetId") Long assetId, @Param("until") LocalDate until);
+
+    @Query("SELECT MIN(j.effectiveDate) FROM AssetBalanceJournal j")
+    LocalDate findFirstEffectiveDate();
+}
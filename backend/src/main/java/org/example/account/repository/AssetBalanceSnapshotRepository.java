@@ -0,0 +1,35 @@
+package org.example.account.repository;
+
+import org.example.account.domain.AssetBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface AssetBalanceSnapshotRepository extends JpaRepository<AssetBalanceSnapshot, Long> {
+
+    Optional<AssetBalanceSnapshot> findFirstByAssetIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(Long assetId, LocalDate date);
+
+    @Query("SELECT DISTINCT s.snapshotDate FROM AssetBalanceSnapshot s")
+    List<LocalDate> findSnapshotDates();
+
+    @Query("SELECT MAX(s.snapshotDate) FROM AssetBalanceSnapshot s")
+    LocalDate findLatestSnapshotDate();
+
+    /**
+     * 과거 날짜로 기록된 변동을 그 이후 스냅샷들에 반영해 스냅샷이 이력 합계와 어긋나지 않게 한다.
+     */
+    @Modifying
+    @Query("UPDATE AssetBalanceSnapshot s SET s.balance = s.balance + :delta WHERE s.assetId = :assetId AND s.snapshotDate >= :date")
+    int shiftFrom(@Param("assetId") Long assetId, @Param("date") LocalDate date, @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO asset_balance_snapshot (asset_id, snapshot_date, balance) " +
+            "SELECT asset_id, :date, SUM(delta) FROM asset_balance_journal WHERE effective_date <= :date GROUP BY asset_id", nativeQuery = true)
+    int insertSnapshots(@Param("date") LocalDate date);
+}
@@ -3,11 +3,23 @@ package org.example.account.repository;
 import org.example.account.domain.Asset;
 import org.example.account.domain.AssetType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
 public interface AssetRepository extends JpaRepository<Asset, Long> {
     List<Asset> findByType(AssetType type);
     Optional<Asset> findByIsDefaultTrue();
+
+    /**
+     * 잔액을 DB에서 원자적으로 증감한다 (read-modify-write 없이 행 잠금 한 번).
+     * 영속성 컨텍스트에 올라와 있는 Asset 엔티티의 balance 값은 갱신되지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Asset a SET a.balance = a.balance + :delta WHERE a.id = :id")
+    int addBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
 }
@@ -0,0 +1,36 @@
+package org.example.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.domain.Budget;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 예산 칸 일괄 upsert. uk_budget_period_category에 대한 INSERT ... ON DUPLICATE KEY UPDATE를 JDBC 배치(rewriteBatchedStatements)로 보낸다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출 측 트랜잭션 안에서 사용해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BudgetBatchRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO budget (year, month, period_month, amount, category_id) " +
+            "VALUES (?, ?, ?, ?, ?) AS new_budget " +
+            "ON DUPLICATE KEY UPDATE amount = new_budget.amount";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<BudgetCell> cells) {
+        if (cells.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, cells, cells.size(), (ps, cell) -> {
+            ps.setInt(1, cell.year());
+            ps.setInt(2, cell.month());
+            ps.setInt(3, Budget.periodOf(cell.year(), cell.month()));
+            ps.setBigDecimal(4, cell.amount());
+            ps.setLong(5, cell.categoryId());
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.account.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 upsert용 예산 칸 (연, 월, 카테고리, 금액).
+ */
+public record BudgetCell(Integer year, Integer month, Long categoryId, BigDecimal amount) {
+}
@@ -1,17 +1,60 @@
 package org.example.account.repository;
 
 import org.example.account.domain.Budget;
+import org.example.account.dto.CategoryAmountRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 기간 조건은 모두 period_month(year * 12 + month)로 건다. uk_budget_period_category(period_month, category_id)의
+ * 앞 컬럼이라 월 조회는 등치, 기간 조회는 범위 스캔으로 인덱스를 탄다.
+ */
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
-    List<Budget> findByYearAndMonth(Integer year, Integer month);
-    Optional<Budget> findByYearAndMonthAndCategoryId(Integer year, Integer month, Long categoryId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT b FROM Budget b WHERE (b.year * 12 + b.month) >= :startTotalMonths AND (b.year * 12 + b.month) <= :endTotalMonths")
-    List<Budget> findBudgetsBetween(Integer startTotalMonths, Integer endTotalMonths);
+    @EntityGraph(attributePaths = {"category"})
+    List<Budget> findByPeriodMonth(Integer periodMonth);
+
+    @EntityGraph(attributePaths = {"category"})
+    Optional<Budget> findByPeriodMonthAndCategoryId(Integer periodMonth, Long categoryId);
+
+    @EntityGraph(attributePaths = {"category"})
+    List<Budget> findByPeriodMonthBetweenOrderByPeriodMonthAsc(Integer startPeriodMonth, Integer endPeriodMonth);
+
+    /**
+     * 일괄 설정 전 기존 칸을 한 번에 읽는다. 엔티티가 아닌 값으로 읽어, 이후 JDBC upsert 결과를 다시 읽을 때 영속성 컨텍스트의 옛 값과 섞이지 않는다.
+     */
+    @Query("SELECT new org.example.account.repository.BudgetCell(b.year, b.month, b.category.id, b.amount) " +
+            "FROM Budget b " +
+            "WHERE b.periodMonth BETWEEN :startPeriodMonth AND :endPeriodMonth")
+    List<BudgetCell> findCellsBetween(@Param("startPeriodMonth") Integer startPeriodMonth,
+                                      @Param("endPeriodMonth") Integer endPeriodMonth);
 
     boolean existsByCategoryId(Long categoryId);
+
+    @Query("SELECT new org.example.account.dto.CategoryAmountRow(b.category.id, true, SUM(b.amount)) " +
+            "FROM Budget b " +
+            "WHERE b.periodMonth BETWEEN :startPeriodMonth AND :endPeriodMonth " +
+            "GROUP BY b.category.id")
+    List<CategoryAmountRow> sumAmountByCategoryBetween(@Param("startPeriodMonth") Integer startPeriodMonth,
+                                                       @Param("endPeriodMonth") Integer endPeriodMonth);
+
+    /**
+     * (기간, 카테고리) 예산을 원자적으로 설정한다 (없으면 생성). 조회 후 insert 사이의 경합으로 유일 제약을 위반하지 않는다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO budget (year, month, period_month, amount, category_id) " +
+            "VALUES (:year, :month, :periodMonth, :amount, :categoryId) AS new_budget " +
+            "ON DUPLICATE KEY UPDATE amount = new_budget.amount", nativeQuery = true)
+    void upsert(@Param("year") int year,
+                @Param("month") int month,
+                @Param("periodMonth") int periodMonth,
+                @Param("amount") BigDecimal amount,
+                @Param("categoryId") Long categoryId);
 }
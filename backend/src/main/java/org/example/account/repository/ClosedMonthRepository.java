@@ -0,0 +1,13 @@
+package org.example.account.repository;
+
+import org.example.account.domain.ClosedMonth;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ClosedMonthRepository extends JpaRepository<ClosedMonth, Long> {
+
+    Optional<ClosedMonth> findByYearAndMonth(Integer year, Integer month);
+
+    boolean existsByYearAndMonth(Integer year, Integer month);
+}
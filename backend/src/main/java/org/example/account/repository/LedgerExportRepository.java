@@ -0,0 +1,57 @@
+package org.example.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * 원장 내보내기 전용 저장소.
+ * 전진 전용(forward-only) 커서에 fetchSize=Integer.MIN_VALUE를 지정해 MySQL 드라이버가 행을 한 건씩 흘려보내게 하고,
+ * 엔티티/영속성 컨텍스트를 거치지 않고 행을 바로 consumer에 넘기므로 기간 크기와 무관하게 메모리 사용량이 일정하다.
+ * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 consumer 안에서 DB를 조회하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerExportRepository {
+
+    private static final String SELECT_SQL = "SELECT t.id, t.date, c.type AS category_type, c.name AS category_name, t.amount, " +
+            "t.payment_method, cd.name AS card_name, a.name AS asset_name, ta.name AS to_asset_name, t.is_confirmed, t.memo " +
+            "FROM transaction t " +
+            "JOIN category c ON c.id = t.category_id " +
+            "LEFT JOIN card cd ON cd.id = t.card_id " +
+            "LEFT JOIN asset a ON a.id = t.asset_id " +
+            "LEFT JOIN asset ta ON ta.id = t.to_asset_id " +
+            "WHERE t.date BETWEEN ? AND ? " +
+            "ORDER BY t.date, t.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEach(LocalDate startDate, LocalDate endDate, Consumer<LedgerExportRow> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setDate(1, Date.valueOf(startDate));
+            ps.setDate(2, Date.valueOf(endDate));
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new LedgerExportRow(
+                rs.getLong("id"),
+                rs.getDate("date").toLocalDate(),
+                rs.getString("category_type"),
+                rs.getString("category_name"),
+                rs.getBigDecimal("amount"),
+                rs.getString("payment_method"),
+                rs.getString("card_name"),
+                rs.getString("asset_name"),
+                rs.getString("to_asset_name"),
+                rs.getBoolean("is_confirmed"),
+                rs.getString("memo")
+        )));
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.account.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 원장 내보내기 한 행. 연관 엔티티 대신 이름을 조인해 담는다.
+ */
+public record LedgerExportRow(
+        Long id,
+        LocalDate date,
+        String categoryType,
+        String categoryName,
+        BigDecimal amount,
+        String paymentMethod,
+        String cardName,
+        String assetName,
+        String toAssetName,
+        boolean confirmed,
+        String memo
+) {
+}
@@ -0,0 +1,63 @@
+package org.example.account.repository;
+
+import org.example.account.domain.MonthlyCategorySummary;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.dto.CategoryAmountRow;
+import org.example.account.dto.MonthlyCategoryAmountRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface MonthlyCategorySummaryRepository extends JpaRepository<MonthlyCategorySummary, Long> {
+
+    List<MonthlyCategorySummary> findByYearOrderByMonthAsc(Integer year);
+
+    @Query("SELECT new org.example.account.dto.CategoryAmountRow(s.categoryId, s.isConfirmed, SUM(s.totalAmount)) " +
+            "FROM MonthlyCategorySummary s " +
+            "WHERE (s.year * 12 + s.month) >= :startTotalMonths AND (s.year * 12 + s.month) <= :endTotalMonths " +
+            "AND (:paymentMethod IS NULL OR s.paymentMethod = :paymentMethod) " +
+            "GROUP BY s.categoryId, s.isConfirmed")
+    List<CategoryAmountRow> sumAmountByCategoryBetween(@Param("startTotalMonths") Integer startTotalMonths,
+                                                       @Param("endTotalMonths") Integer endTotalMonths,
+                                                       @Param("paymentMethod") PaymentMethod paymentMethod);
+
+    /**
+     * 확정 거래의 (연, 월, 카테고리)별 합계. 예산 소진 카운터 초기화용
+     */
+    @Query("SELECT new org.example.account.dto.MonthlyCategoryAmountRow(s.year, s.month, s.categoryId, SUM(s.totalAmount)) " +
+            "FROM MonthlyCategorySummary s " +
+            "WHERE s.isConfirmed = true " +
+            "GROUP BY s.year, s.month, s.categoryId")
+    List<MonthlyCategoryAmountRow> sumConfirmedByMonthAndCategory();
+
+    /**
+     * 집계 행에 금액/건수를 원자적으로 더한다 (없으면 생성). 차감은 음수로 호출한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_category_summary (year, month, category_id, payment_method, is_confirmed, total_amount, tx_count) " +
+            "VALUES (:year, :month, :categoryId, :paymentMethod, :confirmed, :amount, :count) AS delta " +
+            "ON DUPLICATE KEY UPDATE total_amount = monthly_category_summary.total_amount + delta.total_amount, " +
+            "tx_count = monthly_category_summary.tx_count + delta.tx_count", nativeQuery = true)
+    void accumulate(@Param("year") int year,
+                    @Param("month") int month,
+                    @Param("categoryId") Long categoryId,
+                    @Param("paymentMethod") String paymentMethod,
+                    @Param("confirmed") boolean confirmed,
+                    @Param("amount") BigDecimal amount,
+                    @Param("count") long count);
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_category_summary", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_category_summary (year, month, category_id, payment_method, is_confirmed, total_amount, tx_count) " +
+            "SELECT YEAR(date), MONTH(date), category_id, payment_method, is_confirmed, SUM(amount), COUNT(*) " +
+            "FROM transaction " +
+            "GROUP BY YEAR(date), MONTH(date), category_id, payment_method, is_confirmed", nativeQuery = true)
+    int insertFromTransactions();
+}
@@ -0,0 +1,24 @@
+package org.example.account.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.account.domain.NetWorthSnapshotMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface NetWorthSnapshotMarkerRepository extends JpaRepository<NetWorthSnapshotMarker, Integer> {
+
+    /**
+     * 잔액 쓰기용 (FOR SHARE). 쓰기끼리는 막지 않고, 커밋될 때까지 스냅샷 생성만 기다리게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT m FROM NetWorthSnapshotMarker m WHERE m.id = " + NetWorthSnapshotMarker.ID)
+    NetWorthSnapshotMarker findForShare();
+
+    /**
+     * 스냅샷(일별 순자산, 월말 잔액) 생성용 (FOR UPDATE). 진행 중인 잔액 쓰기가 끝나길 기다리고, 생성이 커밋될 때까지 새 쓰기를 막는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM NetWorthSnapshotMarker m WHERE m.id = " + NetWorthSnapshotMarker.ID)
+    NetWorthSnapshotMarker findForUpdate();
+}
@@ -0,0 +1,95 @@
+package org.example.account.repository;
+
+import org.example.account.domain.NetWorthSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 순자산 합계(net_worth_snapshot)와 자산별 일별 잔액(asset_daily_balance).
+ * 두 테이블은 항상 같은 날짜 집합을 가지며, 마지막 날짜는 net_worth_snapshot_marker가 기록한다.
+ */
+public interface NetWorthSnapshotRepository extends JpaRepository<NetWorthSnapshot, LocalDate> {
+
+    /**
+     * from~to 구간을 granularity(DAY/WEEK/MONTH) 버킷으로 나눠 각 버킷의 마지막 스냅샷만 돌려준다.
+     * 잔액은 기간 끝 값이 의미 있으므로 평균 대신 버킷의 마지막 날을 고르고, 다운샘플링은 DB에서 끝낸다.
+     */
+    @Query(value = "SELECT n.* FROM net_worth_snapshot n " +
+            "JOIN (SELECT MAX(snapshot_date) AS last_date FROM net_worth_snapshot " +
+            "      WHERE snapshot_date BETWEEN :from AND :to " +
+            "      GROUP BY CASE :granularity " +
+            "                   WHEN 'WEEK' THEN YEARWEEK(snapshot_date, 3) " +
+            "                   WHEN 'MONTH' THEN YEAR(snapshot_date) * 100 + MONTH(snapshot_date) " +
+            "                   ELSE TO_DAYS(snapshot_date) END) b ON b.last_date = n.snapshot_date " +
+            "ORDER BY n.snapshot_date", nativeQuery = true)
+    List<NetWorthSnapshot> findHistory(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("granularity") String granularity);
+
+    /**
+     * from~to(최대 1000일, 재귀 CTE 깊이 제한)의 자산별 일별 잔액을 변동 이력에서 만든다.
+     * 구간 시작 전 잔액에 날짜별 변동을 누적(윈도 함수)하므로 이력을 날짜 수만큼 다시 읽지 않는다.
+     * 첫 변동 이전 날짜의 행은 만들지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO asset_daily_balance (snapshot_date, asset_id, balance) " +
+            "WITH RECURSIVE days (d) AS (" +
+            "    SELECT CAST(:from AS DATE) UNION ALL SELECT d + INTERVAL 1 DAY FROM days WHERE d < :to), " +
+            "opening AS (" +
+            "    SELECT asset_id, SUM(delta) AS balance FROM asset_balance_journal WHERE effective_date < :from GROUP BY asset_id), " +
+            "daily AS (" +
+            "    SELECT asset_id, effective_date, SUM(delta) AS delta FROM asset_balance_journal " +
+            "    WHERE effective_date BETWEEN :from AND :to GROUP BY asset_id, effective_date), " +
+            "ids AS (SELECT asset_id FROM opening UNION SELECT asset_id FROM daily) " +
+            "SELECT s.d, s.asset_id, s.balance FROM (" +
+            "    SELECT days.d, ids.asset_id, " +
+            "           COALESCE(o.balance, 0) + SUM(COALESCE(dl.delta, 0)) OVER w AS balance, " +
+            "           o.asset_id IS NOT NULL OR COUNT(dl.delta) OVER w > 0 AS started " +
+            "    FROM ids CROSS JOIN days " +
+            "    LEFT JOIN opening o ON o.asset_id = ids.asset_id " +
+            "    LEFT JOIN daily dl ON dl.asset_id = ids.asset_id AND dl.effective_date = days.d " +
+            "    WINDOW w AS (PARTITION BY ids.asset_id ORDER BY days.d)) s " +
+            "WHERE s.started", nativeQuery = true)
+    int insertAssetBalances(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * from~to(최대 1000일)의 자산별 일별 잔액을 NetWorthResponse와 같은 규칙(DEBT는 부채)으로 합쳐 하루 한 행을 만든다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO net_worth_snapshot (snapshot_date, total_assets, total_liabilities, net_worth) " +
+            "WITH RECURSIVE days (d) AS (" +
+            "    SELECT CAST(:from AS DATE) UNION ALL SELECT d + INTERVAL 1 DAY FROM days WHERE d < :to) " +
+            "SELECT days.d, " +
+            "       COALESCE(SUM(CASE WHEN a.type <> 'DEBT' THEN b.balance END), 0), " +
+            "       COALESCE(SUM(CASE WHEN a.type = 'DEBT' THEN b.balance END), 0), " +
+            "       COALESCE(SUM(CASE WHEN a.type = 'DEBT' THEN -b.balance ELSE b.balance END), 0) " +
+            "FROM days " +
+            "LEFT JOIN asset_daily_balance b ON b.snapshot_date = days.d " +
+            "LEFT JOIN asset a ON a.id = b.asset_id " +
+            "GROUP BY days.d", nativeQuery = true)
+    int insertTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * date 이후 스냅샷의 자산 잔액에 delta를 더한다. 그 자산의 행이 아직 없는 날짜(새 자산)는 delta로 만든다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO asset_daily_balance (snapshot_date, asset_id, balance) " +
+            "SELECT n.snapshot_date, :assetId, :delta FROM net_worth_snapshot n WHERE n.snapshot_date >= :date " +
+            "ON DUPLICATE KEY UPDATE balance = balance + :delta", nativeQuery = true)
+    int shiftAssetBalance(@Param("assetId") Long assetId, @Param("date") LocalDate date, @Param("delta") BigDecimal delta);
+
+    /**
+     * date 이후 스냅샷의 합계에 자산 유형에 맞춰 delta를 더한다
+     */
+    @Modifying
+    @Query(value = "UPDATE net_worth_snapshot n JOIN asset a ON a.id = :assetId " +
+            "SET n.total_assets = n.total_assets + CASE WHEN a.type = 'DEBT' THEN 0 ELSE :delta END, " +
+            "    n.total_liabilities = n.total_liabilities + CASE WHEN a.type = 'DEBT' THEN :delta ELSE 0 END, " +
+            "    n.net_worth = n.net_worth + CASE WHEN a.type = 'DEBT' THEN -1 ELSE 1 END * :delta " +
+            "WHERE n.snapshot_date >= :date", nativeQuery = true)
+    int shiftTotals(@Param("assetId") Long assetId, @Param("date") LocalDate date, @Param("delta") BigDecimal delta);
+}
@@ -1,8 +1,32 @@
 package org.example.account.repository;
 
 import org.example.account.domain.RecurringTransaction;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
     boolean existsByCategoryId(Long categoryId);
+
+    // 일괄 적용은 모든 규칙의 카테고리/카드/자산을 읽으므로 한 번의 조인 쿼리로 가져온다
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
+    @Query("SELECT rt FROM RecurringTransaction rt")
+    List<RecurringTransaction> findAllWithReferences();
+
+    /**
+     * 아직 month까지 자동 적용되지 않은 규칙 (이미 끝난 규칙은 매일 읽지 않는다)
+     */
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
+    @Query("SELECT rt FROM RecurringTransaction rt WHERE rt.appliedThrough IS NULL OR rt.appliedThrough < :month")
+    List<RecurringTransaction> findNotAppliedThrough(@Param("month") LocalDate month);
+
+    @Modifying
+    @Query("UPDATE RecurringTransaction rt SET rt.appliedThrough = :month WHERE rt.id IN :ids")
+    int markAppliedThrough(@Param("ids") Collection<Long> ids, @Param("month") LocalDate month);
 }
@@ -0,0 +1,43 @@
+package org.example.account.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 대량 insert 전용 저장소.
+ * Transaction은 IDENTITY 전략이라 Hibernate가 insert를 배치로 묶지 못하므로 JDBC 배치(rewriteBatchedStatements)로 직접 넣는다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출 측 트랜잭션 안에서 사용해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO transaction " +
+            "(date, amount, memo, payment_method, category_id, card_id, recurring_transaction_id, asset_id, to_asset_id, is_confirmed) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<TransactionRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setDate(1, Date.valueOf(row.date()));
+            ps.setBigDecimal(2, row.amount());
+            ps.setString(3, row.memo());
+            ps.setString(4, row.paymentMethod().name());
+            ps.setLong(5, row.categoryId());
+            ps.setObject(6, row.cardId(), Types.BIGINT);
+            ps.setObject(7, row.recurringTransactionId(), Types.BIGINT);
+            ps.setObject(8, row.assetId(), Types.BIGINT);
+            ps.setObject(9, row.toAssetId(), Types.BIGINT);
+            ps.setBoolean(10, row.confirmed());
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.account.repository;
+
+import org.example.account.domain.Transaction;
+import org.example.account.dto.TransactionFilter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TransactionQueryRepository {
+
+    /**
+     * (date, id) 오름차순 키셋 페이지 조회. cursorDate/cursorId가 null이면 첫 페이지를 반환한다.
+     */
+    List<Transaction> findPage(TransactionFilter filter, LocalDate cursorDate, Long cursorId, int limit);
+
+    /**
+     * 조건에 맞는 거래를 (date, id) 순서로 한 행씩 읽어오는 스트림.
+     * 반드시 트랜잭션 안에서 소비하고 try-with-resources로 닫아야 한다.
+     */
+    Stream<Transaction> streamAll(TransactionFilter filter);
+}
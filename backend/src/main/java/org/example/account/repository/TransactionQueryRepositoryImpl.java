@@ -0,0 +1,106 @@
+package org.example.account.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.account.domain.Transaction;
+import org.example.account.dto.TransactionFilter;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TransactionQueryRepositoryImpl implements TransactionQueryRepository {
+
+    // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍한다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Transaction> findPage(TransactionFilter filter, LocalDate cursorDate, Long cursorId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        fetchAssociations(t);
+
+        List<Predicate> predicates = buildPredicates(cb, t, filter);
+        if (cursorDate != null && cursorId != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(t.<LocalDate>get("date"), cursorDate),
+                    cb.and(cb.equal(t.get("date"), cursorDate), cb.greaterThan(t.<Long>get("id"), cursorId))
+            ));
+        }
+
+        query.select(t)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(t.get("date")), cb.asc(t.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Transaction> streamAll(TransactionFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        // 스트리밍 중에는 같은 커넥션으로 지연 로딩 쿼리를 보낼 수 없으므로 연관 엔티티를 함께 가져온다.
+        fetchAssociations(t);
+
+        query.select(t)
+                .where(buildPredicates(cb, t, filter).toArray(Predicate[]::new))
+                .orderBy(cb.asc(t.get("date")), cb.asc(t.get("id")));
+
+        // 읽은 행은 바로 영속성 컨텍스트에서 분리해 범위가 커져도 메모리가 늘지 않도록 한다.
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAMING_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    private void fetchAssociations(Root<Transaction> t) {
+        t.fetch("category", JoinType.INNER);
+        t.fetch("card", JoinType.LEFT);
+        t.fetch("asset", JoinType.LEFT);
+        t.fetch("toAsset", JoinType.LEFT);
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Transaction> t, TransactionFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.between(t.<LocalDate>get("date"), filter.startDate(), filter.endDate()));
+
+        if (filter.paymentMethod() != null) {
+            predicates.add(cb.equal(t.get("paymentMethod"), filter.paymentMethod()));
+        }
+        if (filter.categoryIds() != null && !filter.categoryIds().isEmpty()) {
+            predicates.add(t.get("category").get("id").in(filter.categoryIds()));
+        }
+        if (filter.assetId() != null) {
+            predicates.add(cb.or(
+                    cb.equal(t.get("asset").get("id"), filter.assetId()),
+                    cb.equal(t.get("toAsset").get("id"), filter.assetId())
+            ));
+        }
+        if (filter.cardId() != null) {
+            predicates.add(cb.equal(t.get("card").get("id"), filter.cardId()));
+        }
+        if (filter.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.<BigDecimal>get("amount"), filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(t.<BigDecimal>get("amount"), filter.maxAmount()));
+        }
+        return predicates;
+    }
+}
@@ -1,34 +1,110 @@
 package org.example.account.repository;
 
+import org.example.account.domain.PaymentMethod;
 import org.example.account.domain.Transaction;
+import org.example.account.dto.CategoryAmountRow;
+import org.example.account.dto.RecurringOccurrenceRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionQueryRepository {
 
+    // 목록 조회는 TransactionResponse 변환 시 연관 엔티티를 모두 읽으므로 한 번의 조인 쿼리로 함께 가져온다 (N+1 방지)
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
     List<Transaction> findByDateBetween(LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
+    List<Transaction> findByDateBetweenOrderByDateAscIdAsc(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * date까지의 예정 거래 (지난 예정 거래도 곧 확정되므로 포함). 예측 계산용
+     */
+    @EntityGraph(attributePaths = {"category"})
+    List<Transaction> findByIsConfirmedFalseAndDateLessThanEqual(LocalDate date);
+
+    boolean existsByIsConfirmedFalseAndDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
     @Query("SELECT t FROM Transaction t WHERE t.date >= :date AND t.isConfirmed = false")
     List<Transaction> findFuturePlannedTransactions(@Param("date") LocalDate date);
 
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
     List<Transaction> findByCardIdAndDateBetween(Long cardId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 카드 결제 주기 조회용 (idx_transaction_card_date 범위 스캔)
+     */
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
+    List<Transaction> findByCardIdAndDateBetweenOrderByDateAscIdAsc(Long cardId, LocalDate startDate, LocalDate endDate);
+
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
     List<Transaction> findByPaymentMethodAndDateBetween(org.example.account.domain.PaymentMethod paymentMethod, LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
     @Query("SELECT t FROM Transaction t WHERE t.card.id = :cardId")
     List<Transaction> findByCardId(@Param("cardId") Long cardId);
 
     boolean existsByRecurringTransactionIdAndDateBetween(Long recurringTransactionId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 기간 안에 고정 비용으로 이미 생성된 (고정 비용, 날짜) 쌍. 일괄 적용 시 규칙별 exists 쿼리 대신 한 번에 읽는다.
+     */
+    @Query("SELECT DISTINCT new org.example.account.dto.RecurringOccurrenceRow(t.recurringTransaction.id, t.date) " +
+            "FROM Transaction t " +
+            "WHERE t.recurringTransaction IS NOT NULL AND t.date BETWEEN :startDate AND :endDate")
+    List<RecurringOccurrenceRow> findRecurringOccurrences(@Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
     List<Transaction> findByRecurringTransactionIdAndIsConfirmedFalseAndDateBetween(Long recurringTransactionId, LocalDate startDate, LocalDate endDate);
 
     List<Transaction> findByAssetId(Long assetId);
 
+    @EntityGraph(attributePaths = {"category", "card", "asset", "toAsset"})
+    List<Transaction> findByIdIn(Collection<Long> ids);
+
     List<Transaction> findByToAssetId(Long toAssetId);
 
+    /**
+     * 확정 대상(날짜가 지난 예정 거래)을 오래된 순으로 읽는다 (idx_transaction_confirmed_date)
+     */
+    @EntityGraph(attributePaths = {"category"})
+    @Query("SELECT t FROM Transaction t WHERE t.isConfirmed = false AND t.date <= :today ORDER BY t.date, t.id")
+    List<Transaction> findDueForConfirmation(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * 아직 예정 상태인 거래만 확정한다. 반환값이 ids 크기보다 작으면 그 사이 다른 요청이 확정한 것이다.
+     */
+    @Modifying
+    @Query("UPDATE Transaction t SET t.isConfirmed = true WHERE t.id IN :ids AND t.isConfirmed = false")
+    int confirmAll(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 메모 전문 검색 (ft_transaction_memo, ngram). 관련도 순으로 id만 반환하고 엔티티는 findByIdIn으로 읽는다.
+     */
+    @Query(value = "SELECT t.id FROM transaction t " +
+            "WHERE MATCH(t.memo) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(t.memo) AGAINST (:query IN BOOLEAN MODE) DESC, t.date DESC, t.id DESC " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchMemoIds(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
     boolean existsByCategoryId(Long categoryId);
+
+    @Query("SELECT new org.example.account.dto.CategoryAmountRow(t.category.id, t.isConfirmed, SUM(t.amount)) " +
+            "FROM Transaction t " +
+            "WHERE t.date BETWEEN :startDate AND :endDate " +
+            "AND (:paymentMethod IS NULL OR t.paymentMethod = :paymentMethod) " +
+            "AND (:cardId IS NULL OR t.card.id = :cardId) " +
+            "GROUP BY t.category.id, t.isConfirmed")
+    List<CategoryAmountRow> sumAmountByCategory(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate,
+                                                @Param("paymentMethod") PaymentMethod paymentMethod,
+                                                @Param("cardId") Long cardId);
 }
@@ -0,0 +1,23 @@
+package org.example.account.repository;
+
+import org.example.account.domain.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * JDBC 배치 insert용 거래 행. 연관 엔티티 대신 FK id만 가진다.
+ */
+public record TransactionRow(
+        LocalDate date,
+        BigDecimal amount,
+        String memo,
+        PaymentMethod paymentMethod,
+        Long categoryId,
+        Long cardId,
+        Long recurringTransactionId,
+        Long assetId,
+        Long toAssetId,
+        boolean confirmed
+) {
+}
@@ -0,0 +1,67 @@
+package org.example.account.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 커밋된 뒤에만 반영해야 하는 메모리 상태(변경 버전, 마감 월 집합, 예산 소진 카운터 등)의 갱신을 등록한다.
+ * 롤백되면 실행하지 않고, 트랜잭션 밖에서 호출되면 바로 실행한다.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * guard를 커밋 직전부터 action이 끝날 때까지 잡는다. 다른 쪽이 같은 락의 배타 모드로 DB를 다시 읽고 교체하면,
+     * 그 사이에 커밋이 끼어들어 읽은 값에도 반영되고 action으로도 한 번 더 더해지는 일이 생기지 않는다.
+     */
+    static void run(Runnable action, Lock guard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            guard.lock();
+            try {
+                action.run();
+            } finally {
+                guard.unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                guard.lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    locked = false;
+                    guard.unlock();
+                }
+            }
+        });
+    }
+}
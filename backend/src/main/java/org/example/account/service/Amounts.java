@@ -0,0 +1,17 @@
+package org.example.account.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 메모리 집계(예측, 예산 소진 카운터)는 금액을 원 단위 long으로 다룬다
+ */
+final class Amounts {
+
+    private Amounts() {
+    }
+
+    static long won(BigDecimal amount) {
+        return amount.setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
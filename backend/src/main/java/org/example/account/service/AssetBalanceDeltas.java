@@ -0,0 +1,88 @@
+package org.example.account.service;
+
+import org.example.account.domain.Category;
+import org.example.account.domain.RecurringTransaction;
+import org.example.account.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 여러 거래의 자산 잔액 변화를 (자산, 거래일)별로 누적한다.
+ * 대량 처리 시 거래마다 잔액을 갱신하지 않고, 묶음(chunk)당 자산별로 한 번만 반영하기 위해 사용한다.
+ * 거래일 단위 누적분은 그대로 잔액 변동 이력(asset_balance_journal)의 행이 된다.
+ * 부호 규칙은 TransactionService의 applyAssetBalance와 같다.
+ */
+public class AssetBalanceDeltas {
+
+    public record Entry(Long assetId, LocalDate date) {
+    }
+
+    private final Map<Entry, BigDecimal> deltas = new HashMap<>();
+
+    /**
+     * INCOME → asset +amount
+     * EXPENSE → asset -amount
+     * TRANSFER 또는 저축/투자 → asset -amount, toAsset +amount
+     */
+    public void apply(Category category, Long assetId, Long toAssetId, BigDecimal amount, LocalDate date) {
+        if (assetId == null) return;
+
+        boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
+
+        if (isAssetTransfer) {
+            add(assetId, date, amount.negate());
+            if (toAssetId != null) {
+                add(toAssetId, date, amount);
+            }
+        } else {
+            switch (category.getType()) {
+                case INCOME -> add(assetId, date, amount);
+                case EXPENSE -> add(assetId, date, amount.negate());
+            }
+        }
+    }
+
+    /**
+     * 고정 비용 발생분. 확정된 것만 apply와 같은 규칙으로 반영하므로, 만들어진 거래를 삭제할 때의 reverse와 정확히 상쇄된다.
+     * 단건 적용(RecurringTransactionService)과 일괄 적용(RecurringApplyService)이 함께 쓴다.
+     */
+    public void applyOccurrence(RecurringTransaction rt, boolean confirmed, Long assetId, Long toAssetId, LocalDate date) {
+        if (!confirmed) return;
+        apply(rt.getCategory(), assetId, toAssetId, rt.getAmount(), date);
+    }
+
+    public void reverse(Category category, Long assetId, Long toAssetId, BigDecimal amount, LocalDate date) {
+        apply(category, assetId, toAssetId, amount.negate(), date);
+    }
+
+    public void add(Long assetId, LocalDate date, BigDecimal delta) {
+        deltas.merge(new Entry(assetId, date), delta, BigDecimal::add);
+    }
+
+    /**
+     * 자산별 합계 (잔액 UPDATE용)
+     */
+    public Map<Long, BigDecimal> totalsByAsset() {
+        Map<Long, BigDecimal> totals = new HashMap<>();
+        deltas.forEach((entry, delta) -> totals.merge(entry.assetId(), delta, BigDecimal::add));
+        return totals;
+    }
+
+    /**
+     * (자산, 거래일)별 합계 (이력 기록용)
+     */
+    public Map<Entry, BigDecimal> entries() {
+        return deltas;
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    public void clear() {
+        deltas.clear();
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.AssetBalanceSnapshot;
+import org.example.account.dto.AssetBalanceResponse;
+import org.example.account.repository.AssetBalanceJournalRepository;
+import org.example.account.repository.AssetBalanceSnapshotRepository;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.NetWorthSnapshotMarkerRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 과거 특정 날짜 기준 자산 잔액 조회와 월말 스냅샷 생성.
+ * 조회는 기준일 이전의 가장 가까운 월말 스냅샷에서 시작해 그 이후 한 달 이내의 이력만 더하므로,
+ * 이력이 길어져도 조회 비용이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AssetBalanceHistoryService {
+
+    private final AssetRepository assetRepository;
+    private final AssetBalanceJournalRepository journalRepository;
+    private final AssetBalanceSnapshotRepository snapshotRepository;
+    private final NetWorthSnapshotMarkerRepository netWorthSnapshotMarkerRepository;
+
+    public AssetBalanceResponse getBalanceAsOf(Long assetId, LocalDate asOf) {
+        if (!assetRepository.existsById(assetId)) {
+            throw new IllegalArgumentException("Asset not found");
+        }
+
+        Optional<AssetBalanceSnapshot> snapshot = snapshotRepository
+                .findFirstByAssetIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(assetId, asOf);
+
+        if (snapshot.isEmpty()) {
+            BigDecimal balance = journalRepository.sumDeltaUntil(assetId, asOf);
+            return new AssetBalanceResponse(assetId, asOf, balance, null);
+        }
+
+        AssetBalanceSnapshot base = snapshot.get();
+        BigDecimal replayed = journalRepository.sumDeltaBetween(assetId, base.getSnapshotDate(), asOf);
+        return new AssetBalanceResponse(assetId, asOf, base.getBalance().add(replayed), base.getSnapshotDate());
+    }
+
+    /**
+     * 이력이 시작된 달부터 지난달까지 빠진 월말 스냅샷을 만든다.
+     * 매월 1일 새벽에 지난달 스냅샷을 만들고, 기동 시에도 한 번 실행해 마이그레이션 직후의 과거 월을 채운다.
+     *
+     * 일별 순자산 스냅샷과 같은 표지 행 잠금(FOR UPDATE)으로 잔액 쓰기와 직렬화한다. 진행 중인 쓰기가 커밋된 뒤 이력을 읽으므로,
+     * 스냅샷에서 빠진 쓰기가 "아직 스냅샷 없음"을 보고 shift도 하지 않아 월말 값이 어긋나는 일이 없다.
+     */
+    @Scheduled(cron = "${balance.snapshot-cron:0 10 0 1 * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int takeMissingSnapshots() {
+        netWorthSnapshotMarkerRepository.findForUpdate();
+        LocalDate firstDate = journalRepository.findFirstEffectiveDate();
+        if (firstDate == null) return 0;
+
+        Set<LocalDate> existing = new HashSet<>(snapshotRepository.findSnapshotDates());
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        int created = 0;
+
+        for (YearMonth month = YearMonth.from(firstDate); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            LocalDate monthEnd = month.atEndOfMonth();
+            if (existing.contains(monthEnd)) continue;
+            snapshotRepository.insertSnapshots(monthEnd);
+            created++;
+        }
+
+        if (created > 0) {
+            log.info("자산 잔액 월말 스냅샷 생성: {}개월", created);
+        }
+        return created;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.domain.AssetBalanceJournal;
+import org.example.account.domain.BalanceChangeSource;
+import org.example.account.repository.AssetBalanceJournalRepository;
+import org.example.account.repository.AssetBalanceSnapshotRepository;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.NetWorthSnapshotMarkerRepository;
+import org.example.account.repository.NetWorthSnapshotRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 자산 잔액 갱신의 단일 경로.
+ * 엔티티의 read-modify-write 대신 UPDATE asset SET balance = balance + ? 로 반영해
+ * 동시에 들어온 거래(대량 가져오기와 화면 입력 등) 사이에서 갱신이 유실되지 않게 한다.
+ * 같은 DB 트랜잭션 안에서 변동 이력을 남기므로 이력 합계는 항상 현재 잔액과 같다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AssetBalanceService {
+
+    private final AssetRepository assetRepository;
+    private final AssetBalanceJournalRepository journalRepository;
+    private final AssetBalanceSnapshotRepository snapshotRepository;
+    private final NetWorthSnapshotRepository netWorthSnapshotRepository;
+    private final NetWorthSnapshotMarkerRepository netWorthSnapshotMarkerRepository;
+    private final NetWorthCache netWorthCache;
+    private final ChangeVersions changeVersions;
+
+    @Transactional
+    public void apply(AssetBalanceDeltas deltas, BalanceChangeSource source) {
+        if (deltas.isEmpty()) return;
+
+        // 여러 자산을 갱신할 때 항상 id 순서로 잠가 교착 상태를 피한다
+        new TreeMap<>(deltas.totalsByAsset()).forEach((assetId, delta) -> {
+            if (delta.signum() != 0) {
+                assetRepository.addBalance(assetId, delta);
+            }
+        });
+
+        record(deltas.entries(), source);
+    }
+
+    /**
+     * 잔액은 이미 반영된 상태에서 이력만 남긴다 (자산 등록/직접 수정).
+     */
+    @Transactional
+    public void record(Long assetId, LocalDate date, BigDecimal delta, BalanceChangeSource source) {
+        record(Map.of(new AssetBalanceDeltas.Entry(assetId, date), delta), source);
+    }
+
+    private void record(Map<AssetBalanceDeltas.Entry, BigDecimal> entries, BalanceChangeSource source) {
+        // 월말/일별 스냅샷 생성과 직렬화한다: 생성 중이면 끝날 때까지 기다렸다가 새로 생긴 날짜까지 shift한다
+        LocalDate latestDailySnapshot = netWorthSnapshotMarkerRepository.findForShare().getLatestDate();
+        LocalDate latestSnapshot = snapshotRepository.findLatestSnapshotDate();
+        List<AssetBalanceJournal> journal = new ArrayList<>();
+        Map<Long, BigDecimal> totalsByAsset = new HashMap<>();
+
+        entries.forEach((entry, delta) -> {
+            if (delta.signum() == 0) return;
+            journal.add(new AssetBalanceJournal(entry.assetId(), entry.date(), delta, source));
+            totalsByAsset.merge(entry.assetId(), delta, BigDecimal::add);
+
+            // 이미 스냅샷이 찍힌 날짜 이전으로 기록되는 변동은 이후 스냅샷에도 반영한다
+            if (latestSnapshot != null && !entry.date().isAfter(latestSnapshot)) {
+                snapshotRepository.shiftFrom(entry.assetId(), entry.date(), delta);
+            }
+            if (latestDailySnapshot != null && !entry.date().isAfter(latestDailySnapshot)) {
+                netWorthSnapshotRepository.shiftAssetBalance(entry.assetId(), entry.date(), delta);
+                netWorthSnapshotRepository.shiftTotals(entry.assetId(), entry.date(), delta);
+            }
+        });
+
+        journalRepository.saveAll(journal);
+        netWorthCache.applyDeltas(totalsByAsset);
+        changeVersions.bump(ChangeVersions.Aggregate.ASSETS);
+    }
+}
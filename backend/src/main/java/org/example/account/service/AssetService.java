@@ -1,21 +1,21 @@
 package org.example.account.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
 import org.example.account.domain.Asset;
-import org.example.account.domain.AssetType;
+import org.example.account.domain.BalanceChangeSource;
 import org.example.account.dto.AssetRequest;
 import org.example.account.dto.AssetResponse;
-import org.example.account.dto.NetWorthResponse;
 import org.example.account.domain.Transaction;
 import org.example.account.repository.AssetRepository;
 import org.example.account.repository.TransactionRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +25,9 @@ public class AssetService {
 
     private final AssetRepository assetRepository;
     private final TransactionRepository transactionRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final NetWorthCache netWorthCache;
+    private final ChangeVersions changeVersions;
 
     @Transactional
     public AssetResponse createAsset(AssetRequest request) {
@@ -34,15 +37,31 @@ public class AssetService {
                 request.balance(),
                 request.purchasePrice()
         );
-        return AssetResponse.from(assetRepository.save(asset));
+        Asset saved = assetRepository.save(asset);
+        // 최초 잔액 변동보다 먼저 알려야 그 변동이 새 자산에 더해진다 (잔액이 없어도 유형별 합계에 나타나게)
+        netWorthCache.assetCreated(saved.getId(), saved.getType());
+        if (saved.getBalance() != null) {
+            assetBalanceService.record(saved.getId(), LocalDate.now(), saved.getBalance(), BalanceChangeSource.OPENING);
+        }
+        changeVersions.bump(ChangeVersions.Aggregate.ASSETS);
+        return AssetResponse.from(saved);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.DEFAULT_ASSET, CacheConfig.CLOSED_MONTH_TRANSACTIONS, CacheConfig.CARD_STATEMENTS}, allEntries = true)
     public AssetResponse updateAsset(Long id, AssetRequest request) {
         Asset asset = assetRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
-        
+
+        // 잔액을 직접 고친 경우 차액을 조정 이력으로 남긴다
+        BigDecimal previousBalance = asset.getBalance() != null ? asset.getBalance() : BigDecimal.ZERO;
         asset.update(request.name(), request.balance(), request.purchasePrice());
+        if (request.balance() != null) {
+            assetBalanceService.record(id, LocalDate.now(), request.balance().subtract(previousBalance), BalanceChangeSource.ADJUSTMENT);
+        }
+        // 거래 응답에 자산 이름이 들어가므로 거래 쪽 버전도 올린다
+        changeVersions.bump(ChangeVersions.Aggregate.ASSETS);
+        changeVersions.bumpAllTransactions();
         return AssetResponse.from(asset);
     }
 
@@ -53,6 +72,7 @@ public class AssetService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DEFAULT_ASSET, allEntries = true)
     public AssetResponse setDefaultAsset(Long id) {
         Asset newDefault = assetRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
@@ -62,10 +82,12 @@ public class AssetService {
 
         // 새 기본 자산 설정
         newDefault.setDefault(true);
+        changeVersions.bump(ChangeVersions.Aggregate.ASSETS);
         return AssetResponse.from(newDefault);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.DEFAULT_ASSET, CacheConfig.CLOSED_MONTH_TRANSACTIONS, CacheConfig.CARD_STATEMENTS}, allEntries = true)
     public void deleteAsset(Long id) {
         Asset asset = assetRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
@@ -82,32 +104,14 @@ public class AssetService {
             tx.associateAsset(tx.getAsset(), null);
         }
 
-        assetRepository.delete(asset);
-    }
-
-    public NetWorthResponse calculateNetWorth() {
-        List<Asset> allAssets = assetRepository.findAll();
-
-        BigDecimal totalAssets = BigDecimal.ZERO;
-        BigDecimal totalLiabilities = BigDecimal.ZERO;
-        Map<String, BigDecimal> assetsByType = new HashMap<>();
-
-        for (Asset asset : allAssets) {
-            if (asset.getType() == AssetType.DEBT) {
-                totalLiabilities = totalLiabilities.add(asset.getBalance());
-            } else {
-                totalAssets = totalAssets.add(asset.getBalance());
-            }
-
-            assetsByType.merge(
-                    asset.getType().name(),
-                    asset.getBalance(),
-                    BigDecimal::add
-            );
+        // 변동 이력과 스냅샷은 지우지 않고, 남은 잔액을 오늘 날짜 정리 변동으로 0에 맞춘다.
+        // 과거 날짜의 잔액/순자산 추이는 그대로 남고, 오늘 이후 스냅샷에서만 빠진다 (자산 행이 있어야 유형을 알 수 있으므로 삭제 전에 기록)
+        if (asset.getBalance() != null && asset.getBalance().signum() != 0) {
+            assetBalanceService.record(id, LocalDate.now(), asset.getBalance().negate(), BalanceChangeSource.CLOSING);
         }
-
-        BigDecimal netWorth = totalAssets.subtract(totalLiabilities);
-
-        return new NetWorthResponse(totalAssets, totalLiabilities, netWorth, assetsByType);
+        assetRepository.delete(asset);
+        netWorthCache.assetDeleted(id);
+        changeVersions.bump(ChangeVersions.Aggregate.ASSETS);
+        changeVersions.bumpAllTransactions();
     }
 }
@@ -0,0 +1,92 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.BalanceChangeSource;
+import org.example.account.domain.Transaction;
+import org.example.account.dto.AutoConfirmResponse;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 날짜가 지난 예정 거래를 매일 밤 자동 확정한다.
+ * 묶음(chunk)마다 하나의 DB 트랜잭션에서 자산 잔액(자산별 합산) → 거래 확정(IN 일괄 UPDATE) → 월별 집계 순으로 반영하므로,
+ * 중간에 중단되어도 커밋된 묶음만 확정 상태가 되고 다음 실행은 남은 예정 거래부터 이어서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoConfirmService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CONFLICTS = 3;
+
+    private final TransactionRepository transactionRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final MonthlySummaryService monthlySummaryService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${transaction.auto-confirm-cron:0 10 0 * * *}")
+    public AutoConfirmResponse confirmDueTransactions() {
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int confirmed = 0;
+        int chunks = 0;
+        int conflicts = 0;
+
+        while (true) {
+            Integer count;
+            try {
+                count = transactionTemplate.execute(status -> confirmChunk(today));
+            } catch (IllegalStateException e) {
+                // 같은 거래를 화면에서 동시에 확정한 경우: 묶음 전체가 롤백되었으므로 다시 읽어 처리한다
+                if (++conflicts > MAX_CONFLICTS) {
+                    log.warn("예정 거래 자동 확정 중단: {}", e.getMessage());
+                    break;
+                }
+                continue;
+            }
+            if (count == null || count == 0) break;
+            confirmed += count;
+            chunks++;
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - started;
+        double rowsPerSecond = elapsedMillis > 0 ? confirmed * 1000.0 / elapsedMillis : confirmed;
+        log.info("예정 거래 자동 확정 완료: {}건, {}묶음, {}ms ({}건/초)", confirmed, chunks, elapsedMillis, Math.round(rowsPerSecond));
+        return new AutoConfirmResponse(confirmed, chunks, elapsedMillis);
+    }
+
+    private int confirmChunk(LocalDate today) {
+        List<Transaction> due = transactionRepository.findDueForConfirmation(today, PageRequest.of(0, CHUNK_SIZE));
+        if (due.isEmpty()) return 0;
+
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+        MonthlySummaryChanges summary = new MonthlySummaryChanges();
+        for (Transaction tx : due) {
+            // 부호 규칙은 TransactionService.confirmTransaction과 같다
+            if (tx.getAsset() != null) {
+                deltas.apply(tx.getCategory(), tx.getAsset().getId(),
+                        tx.getToAsset() != null ? tx.getToAsset().getId() : null, tx.getAmount(), tx.getDate());
+            }
+            summary.confirm(tx);
+        }
+
+        assetBalanceService.apply(deltas, BalanceChangeSource.AUTO_CONFIRM);
+
+        List<Long> ids = due.stream().map(Transaction::getId).toList();
+        int updated = transactionRepository.confirmAll(ids);
+        if (updated != ids.size()) {
+            throw new IllegalStateException("확정 대상 " + ids.size() + "건 중 " + updated + "건만 갱신되었습니다.");
+        }
+
+        monthlySummaryService.apply(summary);
+        return updated;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.Budget;
+import org.example.account.domain.Category;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.BudgetLiveResponse;
+import org.example.account.dto.MonthlyCategoryAmountRow;
+import org.example.account.repository.BudgetRepository;
+import org.example.account.repository.MonthlyCategorySummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * (연, 월, 카테고리)별 확정 소진액 메모리 카운터. 원 단위 LongAdder라 동시 쓰기가 한 칸에 몰리지 않는다.
+ * 소진액은 지출(EXPENSE) 카테고리만 센다. 수입/이체는 예산을 쓰는 거래가 아니므로 채울 때도, 더할 때도 뺀다.
+ * 기동 시 월별 집계 테이블에서 채우고, 이후에는 모든 거래 쓰기가 거치는 MonthlySummaryService.apply가 커밋 직후 확정분을 더한다.
+ * 더한 결과가 예산의 임계선(budget.alert-thresholds, 기본 80/100%)을 넘으면 그 자리에서 BudgetThresholdEvent를 발행한다.
+ * 월별 집계 재구축 뒤(03:40) 다시 채워 드리프트를 보정한다. 다시 채우는 동안에는 새 커밋이 기다리므로 그 사이의 변동이 유실되지 않는다.
+ */
+@Slf4j
+@Service
+public class BudgetLiveService {
+
+    private final MonthlyCategorySummaryRepository summaryRepository;
+    private final BudgetRepository budgetRepository;
+    private final ReferenceDataResolver referenceDataResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int[] thresholds;
+
+    private volatile Map<Integer, Map<Long, Counter>> periods = new ConcurrentHashMap<>();
+    // 커밋되는 변동(공유)과 다시 읽어 교체하는 reload(배타)를 직렬화한다. 그 사이의 변동이 옛 맵에 더해져 사라지지 않게 한다
+    private final ReadWriteLock reloadLock = new ReentrantReadWriteLock();
+
+    public BudgetLiveService(MonthlyCategorySummaryRepository summaryRepository,
+                             BudgetRepository budgetRepository,
+                             ReferenceDataResolver referenceDataResolver,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${budget.alert-thresholds:80,100}") int[] thresholds) {
+        this.summaryRepository = summaryRepository;
+        this.budgetRepository = budgetRepository;
+        this.referenceDataResolver = referenceDataResolver;
+        this.eventPublisher = eventPublisher;
+        this.thresholds = Arrays.stream(thresholds).sorted().toArray();
+    }
+
+    @Scheduled(cron = "${budget.live-reload-cron:0 40 3 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        reloadLock.writeLock().lock();
+        try {
+            periods = load();
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+        log.info("예산 소진 카운터 초기화: {}개월", periods.size());
+    }
+
+    private Map<Integer, Map<Long, Counter>> load() {
+        Map<Integer, Map<Long, Counter>> loaded = new ConcurrentHashMap<>();
+        for (MonthlyCategoryAmountRow row : summaryRepository.sumConfirmedByMonthAndCategory()) {
+            if (!isExpense(row.categoryId())) continue;
+            counter(loaded, Budget.periodOf(row.year(), row.month()), row.categoryId()).spent.add(Amounts.won(row.amount()));
+        }
+        for (Budget budget : budgetRepository.findAll()) {
+            counter(loaded, budget.getPeriodMonth(), budget.getCategory().getId()).budget = Amounts.won(budget.getAmount());
+        }
+        // 기동 시점에 이미 넘은 선은 다시 알리지 않는다
+        loaded.values().forEach(categories -> categories.values().forEach(c -> c.level.set(levelOf(c))));
+        return loaded;
+    }
+
+    /**
+     * 거래 쓰기 트랜잭션의 집계 변화 중 확정분을 커밋 직후 카운터에 더한다 (롤백되면 반영하지 않는다)
+     */
+    void record(MonthlySummaryChanges changes) {
+        Map<Integer, Map<Long, Long>> byPeriod = new HashMap<>();
+        changes.entries().forEach((key, delta) -> {
+            if (!key.confirmed() || delta.amount.signum() == 0 || !isExpense(key.categoryId())) return;
+            byPeriod.computeIfAbsent(Budget.periodOf(key.year(), key.month()), p -> new HashMap<>())
+                    .merge(key.categoryId(), Amounts.won(delta.amount), Long::sum);
+        });
+        if (byPeriod.isEmpty()) return;
+        AfterCommit.run(() -> byPeriod.forEach((period, categories) ->
+                categories.forEach((categoryId, amount) -> add(period, categoryId, amount))), reloadLock.readLock());
+    }
+
+    /**
+     * 예산 설정이 커밋되면 카운터의 예산을 바꾸고 임계선을 다시 계산한다
+     */
+    void updateBudget(int year, int month, Long categoryId, BigDecimal amount) {
+        int period = Budget.periodOf(year, month);
+        long budget = Amounts.won(amount);
+        AfterCommit.run(() -> {
+            Counter counter = counter(periods, period, categoryId);
+            counter.budget = budget;
+            evaluate(period, categoryId, counter);
+        }, reloadLock.readLock());
+    }
+
+    public BudgetLiveResponse getLive(int year, int month) {
+        Map<Long, Counter> categories = periods.getOrDefault(Budget.periodOf(year, month), Map.of());
+        long totalBudget = 0;
+        long totalSpent = 0;
+        List<BudgetLiveResponse.CategoryLive> items = new ArrayList<>(categories.size());
+        for (Map.Entry<Long, Counter> entry : categories.entrySet()) {
+            long budget = entry.getValue().budget;
+            long spent = entry.getValue().spent.sum();
+            totalBudget += budget;
+            totalSpent += spent;
+            String name = referenceDataResolver.findCategory(entry.getKey()).map(Category::getName).orElse(null);
+            items.add(new BudgetLiveResponse.CategoryLive(entry.getKey(), name, budget, spent, budget - spent,
+                    budget > 0 ? spent * 100.0 / budget : 0));
+        }
+        items.sort(Comparator.comparing(BudgetLiveResponse.CategoryLive::categoryId));
+        return new BudgetLiveResponse(year, month, totalBudget, totalSpent, items);
+    }
+
+    private boolean isExpense(Long categoryId) {
+        return referenceDataResolver.findCategory(categoryId)
+                .map(category -> category.getType() == TransactionType.EXPENSE)
+                .orElse(false);
+    }
+
+    private void add(int period, Long categoryId, long amount) {
+        Counter counter = counter(periods, period, categoryId);
+        counter.spent.add(amount);
+        evaluate(period, categoryId, counter);
+    }
+
+    /**
+     * 지금 넘어 있는 임계선 수(level)를 CAS로 옮기고, 새로 넘은 선마다 한 번씩 이벤트를 발행한다.
+     * 동시에 여러 쓰기가 같은 선을 넘어도 CAS에 성공한 한 스레드만 발행한다.
+     */
+    private void evaluate(int period, Long categoryId, Counter counter) {
+        while (true) {
+            int current = counter.level.get();
+            int target = levelOf(counter);
+            if (target == current) return;
+            if (counter.level.compareAndSet(current, target)) {
+                for (int i = current; i < target; i++) {
+                    publish(period, categoryId, thresholds[i], counter);
+                }
+                return;
+            }
+        }
+    }
+
+    private int levelOf(Counter counter) {
+        long budget = counter.budget;
+        if (budget <= 0) return 0;
+        long spent = counter.spent.sum();
+        int level = 0;
+        while (level < thresholds.length && spent * 100 >= budget * thresholds[level]) {
+            level++;
+        }
+        return level;
+    }
+
+    private void publish(int period, Long categoryId, int threshold, Counter counter) {
+        int year = (period - 1) / 12;
+        int month = (period - 1) % 12 + 1;
+        BudgetThresholdEvent event = new BudgetThresholdEvent(year, month, categoryId, threshold, counter.budget, counter.spent.sum());
+        log.info("예산 임계선 도달: {}-{} 카테고리 {} {}% ({} / {})", year, month, categoryId, threshold, event.spent(), event.budget());
+        eventPublisher.publishEvent(event);
+    }
+
+    private static Counter counter(Map<Integer, Map<Long, Counter>> periods, int period, Long categoryId) {
+        return periods.computeIfAbsent(period, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(categoryId, c -> new Counter());
+    }
+
+    private static final class Counter {
+        private final LongAdder spent = new LongAdder();
+        private final AtomicInteger level = new AtomicInteger(); // 넘어 있는 임계선 수
+        private volatile long budget;
+    }
+}
@@ -3,14 +3,36 @@ package org.example.account.service;
 import lombok.RequiredArgsConstructor;
 import org.example.account.domain.Budget;
 import org.example.account.domain.Category;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.BudgetBulkResponse;
+import org.example.account.dto.BudgetCopyRequest;
+import org.example.account.dto.BudgetGridRequest;
 import org.example.account.dto.BudgetRequest;
 import org.example.account.dto.BudgetResponse;
+import org.example.account.dto.BudgetSummaryResponse;
+import org.example.account.dto.CategoryAmountRow;
+import org.example.account.dto.CategoryBudgetSummary;
+import org.example.account.repository.BudgetBatchRepository;
+import org.example.account.repository.BudgetCell;
 import org.example.account.repository.BudgetRepository;
 import org.example.account.repository.CategoryRepository;
+import org.example.account.repository.MonthlyCategorySummaryRepository;
+import org.example.account.repository.TransactionRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,36 +41,226 @@ import java.util.stream.Collectors;
 public class BudgetService {
 
     private final BudgetRepository budgetRepository;
+    private final BudgetBatchRepository budgetBatchRepository;
     private final CategoryRepository categoryRepository;
+    private final TransactionRepository transactionRepository;
+    private final MonthlyCategorySummaryRepository monthlyCategorySummaryRepository;
+    private final ChangeVersions changeVersions;
+    private final BudgetLiveService budgetLiveService;
 
     @Transactional
     public BudgetResponse setBudget(BudgetRequest request) {
-        Category category = categoryRepository.findById(request.categoryId())
-                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
+        if (!categoryRepository.existsById(request.categoryId())) {
+            throw new IllegalArgumentException("Category not found");
+        }
+        if (request.month() == null || request.month() < 1 || request.month() > 12) {
+            throw new IllegalArgumentException("월은 1~12 사이여야 합니다: " + request.month());
+        }
 
-        Budget budget = budgetRepository.findByYearAndMonthAndCategoryId(request.year(), request.month(), request.categoryId())
-                .map(existing -> {
-                    existing.updateAmount(request.amount());
-                    return existing;
-                })
-                .orElseGet(() -> new Budget(request.year(), request.month(), request.amount(), category));
-
-        Budget saved = budgetRepository.save(budget);
+        // 조회 후 insert 대신 uk_budget_period_category에 대한 upsert 한 번으로 설정한다
+        int periodMonth = Budget.periodOf(request.year(), request.month());
+        budgetRepository.upsert(request.year(), request.month(), periodMonth, request.amount(), request.categoryId());
+        Budget saved = budgetRepository.findByPeriodMonthAndCategoryId(periodMonth, request.categoryId())
+                .orElseThrow(() -> new IllegalStateException("Budget upsert failed"));
+        changeVersions.bump(ChangeVersions.Aggregate.BUDGETS);
+        budgetLiveService.updateBudget(request.year(), request.month(), request.categoryId(), request.amount());
         return BudgetResponse.from(saved);
     }
 
+    /**
+     * 한 해의 카테고리 x 월 예산 표를 한 번에 설정한다.
+     * 기존 칸을 한 번 읽어 값이 바뀐 칸만 하나의 JDBC 배치 upsert로 보낸다 (칸마다 조회/저장하지 않는다).
+     */
+    @Transactional
+    public BudgetBulkResponse setBudgetGrid(BudgetGridRequest request) {
+        if (request.year() == null || request.rows() == null) {
+            throw new IllegalArgumentException("year와 rows는 필수입니다.");
+        }
+        int start = Budget.periodOf(request.year(), 1);
+        int end = Budget.periodOf(request.year(), 12);
+
+        List<BudgetCell> cells = new ArrayList<>();
+        for (BudgetGridRequest.Row row : request.rows()) {
+            if (row.categoryId() == null || row.amounts() == null || row.amounts().size() != 12) {
+                throw new IllegalArgumentException("각 행은 categoryId와 12개월 금액이 필요합니다.");
+            }
+            for (int month = 1; month <= 12; month++) {
+                BigDecimal amount = row.amounts().get(month - 1);
+                if (amount != null) {
+                    cells.add(new BudgetCell(request.year(), month, row.categoryId(), amount));
+                }
+            }
+        }
+        return upsertCells(cells, budgetRepository.findCellsBetween(start, end), start, end);
+    }
+
+    /**
+     * source 월의 예산을 from~to 월로 ±adjustmentPercent% 조정해 복사한다. source 월 자신은 건너뛴다.
+     * source와 대상 기간의 기존 칸을 한 번에 읽고, 바뀐 칸만 하나의 배치 upsert로 보낸다.
+     */
+    @Transactional
+    public BudgetBulkResponse copyMonth(BudgetCopyRequest request) {
+        if (request.source() == null || request.from() == null || request.to() == null || request.from().isAfter(request.to())) {
+            throw new IllegalArgumentException("source, from, to가 필요하며 from은 to보다 늦을 수 없습니다.");
+        }
+        int source = Budget.periodOf(request.source().getYear(), request.source().getMonthValue());
+        int start = Budget.periodOf(request.from().getYear(), request.from().getMonthValue());
+        int end = Budget.periodOf(request.to().getYear(), request.to().getMonthValue());
+        BigDecimal factor = request.adjustmentPercent() == null ? BigDecimal.ONE
+                : BigDecimal.valueOf(100).add(request.adjustmentPercent()).movePointLeft(2);
+        Set<Long> categoryFilter = request.categoryIds() == null || request.categoryIds().isEmpty()
+                ? null : Set.copyOf(request.categoryIds());
+
+        List<BudgetCell> existing = budgetRepository.findCellsBetween(Math.min(source, start), Math.max(source, end));
+        List<BudgetCell> sourceCells = existing.stream()
+                .filter(cell -> Budget.periodOf(cell.year(), cell.month()) == source)
+                .filter(cell -> categoryFilter == null || categoryFilter.contains(cell.categoryId()))
+                .toList();
+        if (sourceCells.isEmpty()) {
+            throw new IllegalArgumentException("복사할 예산이 없습니다: " + request.source());
+        }
+
+        List<BudgetCell> cells = new ArrayList<>();
+        for (YearMonth month = request.from(); !month.isAfter(request.to()); month = month.plusMonths(1)) {
+            if (month.equals(request.source())) continue;
+            for (BudgetCell cell : sourceCells) {
+                BigDecimal amount = cell.amount().multiply(factor).setScale(0, RoundingMode.HALF_UP);
+                cells.add(new BudgetCell(month.getYear(), month.getMonthValue(), cell.categoryId(), amount));
+            }
+        }
+        return upsertCells(cells, existing, start, end);
+    }
+
+    /**
+     * 기존 칸과 금액이 같은 칸은 건너뛰고 나머지를 한 번의 배치로 upsert한 뒤, start~end 기간의 예산을 돌려준다
+     */
+    private BudgetBulkResponse upsertCells(List<BudgetCell> cells, List<BudgetCell> existing, int start, int end) {
+        Set<Long> categoryIds = new HashSet<>();
+        for (BudgetCell cell : cells) {
+            if (cell.amount().signum() < 0) {
+                throw new IllegalArgumentException("예산은 0 이상이어야 합니다: " + cell.amount());
+            }
+            categoryIds.add(cell.categoryId());
+        }
+        if (categoryRepository.findAllById(categoryIds).size() != categoryIds.size()) {
+            throw new IllegalArgumentException("Category not found");
+        }
+
+        Map<CellKey, BigDecimal> current = new HashMap<>();
+        for (BudgetCell cell : existing) {
+            current.put(CellKey.of(cell), cell.amount());
+        }
+        // 같은 칸이 여러 번 오면 마지막 값이 이긴다
+        Map<CellKey, BudgetCell> changed = new LinkedHashMap<>();
+        for (BudgetCell cell : cells) {
+            BigDecimal before = current.get(CellKey.of(cell));
+            if (before != null && before.compareTo(cell.amount()) == 0) {
+                changed.remove(CellKey.of(cell));
+            } else {
+                changed.put(CellKey.of(cell), cell);
+            }
+        }
+
+        budgetBatchRepository.upsertAll(new ArrayList<>(changed.values()));
+        if (!changed.isEmpty()) {
+            changeVersions.bump(ChangeVersions.Aggregate.BUDGETS);
+            changed.values().forEach(cell -> budgetLiveService.updateBudget(cell.year(), cell.month(), cell.categoryId(), cell.amount()));
+        }
+
+        List<BudgetResponse> budgets = budgetRepository.findByPeriodMonthBetweenOrderByPeriodMonthAsc(start, end).stream()
+                .map(BudgetResponse::from)
+                .collect(Collectors.toList());
+        return new BudgetBulkResponse(changed.size(), budgets);
+    }
+
+    private record CellKey(int periodMonth, Long categoryId) {
+        static CellKey of(BudgetCell cell) {
+            return new CellKey(Budget.periodOf(cell.year(), cell.month()), cell.categoryId());
+        }
+    }
+
     public List<BudgetResponse> getMonthlyBudgets(Integer year, Integer month) {
-        return budgetRepository.findByYearAndMonth(year, month).stream()
+        return budgetRepository.findByPeriodMonth(Budget.periodOf(year, month)).stream()
                 .map(BudgetResponse::from)
                 .collect(Collectors.toList());
     }
 
-    public List<BudgetResponse> getBudgetsByPeriod(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        int startTotal = startDate.getYear() * 12 + startDate.getMonthValue();
-        int endTotal = endDate.getYear() * 12 + endDate.getMonthValue();
-        
-        return budgetRepository.findBudgetsBetween(startTotal, endTotal).stream()
+    public List<BudgetResponse> getBudgetsByPeriod(LocalDate startDate, LocalDate endDate) {
+        return budgetRepository.findByPeriodMonthBetweenOrderByPeriodMonthAsc(Budget.periodOf(startDate), Budget.periodOf(endDate)).stream()
                 .map(BudgetResponse::from)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 예산 대비 실적 요약: 카테고리별 예산/실적/잔여 금액과 수입·지출 합계.
+     * 합계는 DB에서 GROUP BY로 계산하고, 여기서는 카테고리 수만큼만 순회한다.
+     * 기간이 월 단위로 딱 맞고 카드 필터가 없으면 거래 테이블 대신 월별 집계 테이블을 읽는다.
+     * 실적은 화면과 동일하게 예정(미확정) 거래를 포함한다.
+     */
+    public BudgetSummaryResponse getBudgetSummary(LocalDate startDate, LocalDate endDate, PaymentMethod paymentMethod, Long cardId) {
+        int startTotal = Budget.periodOf(startDate);
+        int endTotal = Budget.periodOf(endDate);
+
+        Map<Long, BigDecimal> budgets = new HashMap<>();
+        for (CategoryAmountRow row : budgetRepository.sumAmountByCategoryBetween(startTotal, endTotal)) {
+            budgets.put(row.categoryId(), row.amount());
+        }
+
+        Map<Long, BigDecimal> actuals = new HashMap<>();
+        Map<Long, BigDecimal> planned = new HashMap<>();
+        boolean wholeMonths = startDate.getDayOfMonth() == 1
+                && endDate.equals(YearMonth.from(endDate).atEndOfMonth());
+        List<CategoryAmountRow> actualRows = wholeMonths && cardId == null
+                ? monthlyCategorySummaryRepository.sumAmountByCategoryBetween(startTotal, endTotal, paymentMethod)
+                : transactionRepository.sumAmountByCategory(startDate, endDate, paymentMethod, cardId);
+        for (CategoryAmountRow row : actualRows) {
+            actuals.merge(row.categoryId(), row.amount(), BigDecimal::add);
+            if (!Boolean.TRUE.equals(row.confirmed())) {
+                planned.merge(row.categoryId(), row.amount(), BigDecimal::add);
+            }
+        }
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        BigDecimal totalExpenseBudget = BigDecimal.ZERO;
+        List<CategoryBudgetSummary> categories = new ArrayList<>();
+
+        for (Category category : categoryRepository.findAll()) {
+            BigDecimal budgetAmount = budgets.getOrDefault(category.getId(), BigDecimal.ZERO);
+            BigDecimal actualAmount = actuals.getOrDefault(category.getId(), BigDecimal.ZERO);
+            BigDecimal plannedAmount = planned.getOrDefault(category.getId(), BigDecimal.ZERO);
+
+            if (category.getType() == TransactionType.INCOME) {
+                totalIncome = totalIncome.add(actualAmount);
+            } else if (category.getType() == TransactionType.EXPENSE) {
+                totalExpense = totalExpense.add(actualAmount);
+                totalExpenseBudget = totalExpenseBudget.add(budgetAmount);
+            }
+
+            double percent = budgetAmount.signum() > 0
+                    ? actualAmount.doubleValue() / budgetAmount.doubleValue() * 100
+                    : 0;
+
+            categories.add(new CategoryBudgetSummary(
+                    category.getId(),
+                    category.getName(),
+                    category.getType(),
+                    budgetAmount,
+                    actualAmount,
+                    plannedAmount,
+                    budgetAmount.subtract(actualAmount),
+                    percent
+            ));
+        }
+
+        return new BudgetSummaryResponse(
+                startDate,
+                endDate,
+                totalIncome,
+                totalExpense,
+                totalExpenseBudget,
+                totalExpenseBudget.subtract(totalExpense),
+                categories
+        );
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.account.service;
+
+/**
+ * 확정 거래로 (연, 월, 카테고리)의 소진액이 예산의 threshold% 선을 넘은 순간 한 번 발행된다.
+ * 환불/삭제로 다시 선 아래로 내려갔다가 넘으면 다시 발행된다. 금액은 원 단위.
+ */
+public record BudgetThresholdEvent(
+        int year,
+        int month,
+        Long categoryId,
+        int threshold,
+        long budget,
+        long spent
+) {
+}
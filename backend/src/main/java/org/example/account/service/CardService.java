@@ -1,10 +1,13 @@
 package org.example.account.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
 import org.example.account.domain.Card;
 import org.example.account.dto.CardRequest;
 import org.example.account.dto.CardResponse;
 import org.example.account.repository.CardRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,13 +20,31 @@ import java.util.stream.Collectors;
 public class CardService {
 
     private final CardRepository cardRepository;
+    private final ChangeVersions changeVersions;
 
     @Transactional
     public CardResponse createCard(CardRequest request) {
         Card card = new Card(request.name(), request.type());
+        card.updateBillingCycle(request.closingDay(), request.paymentDay());
+        changeVersions.bump(ChangeVersions.Aggregate.CARDS);
         return CardResponse.from(cardRepository.save(card));
     }
 
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CARDS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CARD_STATEMENTS, allEntries = true), // 결제 주기가 바뀌면 주기 경계가 모두 달라진다
+            @CacheEvict(cacheNames = CacheConfig.CLOSED_MONTH_TRANSACTIONS, allEntries = true) // 직렬화된 거래에 카드 이름이 들어 있다
+    })
+    public CardResponse updateCard(Long id, CardRequest request) {
+        Card card = cardRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Card not found"));
+        card.update(request.name(), request.type());
+        card.updateBillingCycle(request.closingDay(), request.paymentDay());
+        changeVersions.bump(ChangeVersions.Aggregate.CARDS);
+        return CardResponse.from(card);
+    }
+
     public List<CardResponse> getAllCards() {
         return cardRepository.findAll().stream()
                 .map(CardResponse::from)
@@ -31,7 +52,12 @@ public class CardService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CARDS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CARD_STATEMENTS, allEntries = true)
+    })
     public void deleteCard(Long id) {
         cardRepository.deleteById(id);
+        changeVersions.bump(ChangeVersions.Aggregate.CARDS);
     }
 }
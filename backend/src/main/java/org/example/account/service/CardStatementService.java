@@ -0,0 +1,128 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
+import org.example.account.domain.BillingCycle;
+import org.example.account.domain.Card;
+import org.example.account.domain.Transaction;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.CardStatementResponse;
+import org.example.account.dto.TransactionResponse;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카드 결제 주기별 명세.
+ * 마감된 주기는 거래가 거의 바뀌지 않으므로 캐시하고, 해당 주기의 거래가 바뀌면 evict로 그 주기만 무효화한다.
+ * 캐시에 없는 주기들은 (card_id, date) 범위 쿼리 한 번으로 읽어 주기별로 나눈다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CardStatementService {
+
+    private static final int DEFAULT_CYCLES = 6;
+    private static final int MAX_CYCLES = 24;
+
+    private final TransactionRepository transactionRepository;
+    private final ReferenceDataResolver referenceDataResolver;
+    private final CacheManager cacheManager;
+
+    private record StatementKey(Long cardId, YearMonth statementMonth) {
+    }
+
+    /**
+     * from ~ to 주기 명세 (생략 시 현재 주기까지 최근 6개)
+     */
+    public List<CardStatementResponse> getStatements(Long cardId, YearMonth from, YearMonth to) {
+        Card card = referenceDataResolver.findCard(cardId)
+                .orElseThrow(() -> new IllegalArgumentException("Card not found"));
+        if (!card.hasBillingCycle()) {
+            throw new IllegalArgumentException("결제 주기(마감일/결제일)가 설정되지 않은 카드입니다.");
+        }
+
+        LocalDate today = LocalDate.now();
+        YearMonth last = to != null ? to : BillingCycle.containing(card, today).statementMonth();
+        YearMonth first = from != null ? from : last.minusMonths(DEFAULT_CYCLES - 1);
+        if (first.isAfter(last)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다.");
+        }
+        if (first.plusMonths(MAX_CYCLES).isBefore(last.plusMonths(1))) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 주기는 최대 " + MAX_CYCLES + "개입니다.");
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.CARD_STATEMENTS);
+        List<CardStatementResponse> statements = new ArrayList<>();
+        List<BillingCycle> missing = new ArrayList<>();
+        List<Integer> missingIndexes = new ArrayList<>();
+
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            BillingCycle cycle = BillingCycle.of(card, month);
+            CardStatementResponse cached = cycle.isClosed(today) && cache != null
+                    ? cache.get(new StatementKey(cardId, month), CardStatementResponse.class)
+                    : null;
+            if (cached == null) {
+                missing.add(cycle);
+                missingIndexes.add(statements.size());
+            }
+            statements.add(cached);
+        }
+
+        if (!missing.isEmpty()) {
+            List<Transaction> rows = transactionRepository.findByCardIdAndDateBetweenOrderByDateAscIdAsc(
+                    cardId, missing.get(0).startDate(), missing.get(missing.size() - 1).endDate());
+
+            for (int i = 0; i < missing.size(); i++) {
+                BillingCycle cycle = missing.get(i);
+                CardStatementResponse statement = toStatement(cardId, cycle, rows, today);
+                statements.set(missingIndexes.get(i), statement);
+                if (statement.closed() && cache != null) {
+                    cache.put(new StatementKey(cardId, cycle.statementMonth()), statement);
+                }
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * 해당 날짜의 거래가 바뀌었을 때 그 날짜가 속한 주기의 캐시를 지운다 (커밋 이후 반영).
+     */
+    public void evict(Long cardId, LocalDate date) {
+        Cache cache = cacheManager.getCache(CacheConfig.CARD_STATEMENTS);
+        if (cardId == null || cache == null) return;
+
+        referenceDataResolver.findCard(cardId)
+                .filter(Card::hasBillingCycle)
+                .ifPresent(card -> cache.evict(new StatementKey(cardId, BillingCycle.containing(card, date).statementMonth())));
+    }
+
+    private CardStatementResponse toStatement(Long cardId, BillingCycle cycle, List<Transaction> rows, LocalDate today) {
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal confirmed = BigDecimal.ZERO;
+        List<TransactionResponse> items = new ArrayList<>();
+
+        for (Transaction tx : rows) {
+            if (!cycle.contains(tx.getDate())) continue;
+
+            // 카드 수입은 환불로 보고 청구액에서 뺀다
+            BigDecimal amount = tx.getCategory().getType() == TransactionType.INCOME ? tx.getAmount().negate() : tx.getAmount();
+            total = total.add(amount);
+            if (tx.isConfirmed()) {
+                confirmed = confirmed.add(amount);
+            }
+            items.add(TransactionResponse.from(tx));
+        }
+
+        return new CardStatementResponse(cardId, cycle.statementMonth(), cycle.startDate(), cycle.endDate(), cycle.paymentDate(),
+                cycle.isClosed(today), total, confirmed, items.size(), items);
+    }
+}
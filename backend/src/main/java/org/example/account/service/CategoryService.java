@@ -1,6 +1,7 @@
 package org.example.account.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
 import org.example.account.domain.Category;
 import org.example.account.dto.CategoryRequest;
 import org.example.account.dto.CategoryResponse;
@@ -8,6 +9,8 @@ import org.example.account.repository.BudgetRepository;
 import org.example.account.repository.CategoryRepository;
 import org.example.account.repository.RecurringTransactionRepository;
 import org.example.account.repository.TransactionRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,11 +26,13 @@ public class CategoryService {
     private final TransactionRepository transactionRepository;
     private final BudgetRepository budgetRepository;
     private final RecurringTransactionRepository recurringTransactionRepository;
+    private final ChangeVersions changeVersions;
 
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
         Category category = new Category(request.name(), request.type());
         Category saved = categoryRepository.save(category);
+        changeVersions.bump(ChangeVersions.Aggregate.CATEGORIES);
         return CategoryResponse.from(saved);
     }
 
@@ -38,14 +43,20 @@ public class CategoryService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.CLOSED_MONTH_TRANSACTIONS, CacheConfig.CARD_STATEMENTS}, allEntries = true) // 직렬화된 거래/명세 거래에 카테고리 이름이 들어 있다
+    })
     public CategoryResponse updateCategory(Long id, CategoryRequest request) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + id));
         category.update(request.name(), request.type());
+        changeVersions.bump(ChangeVersions.Aggregate.CATEGORIES);
         return CategoryResponse.from(category);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#id")
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + id));
@@ -61,5 +72,6 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        changeVersions.bump(ChangeVersions.Aggregate.CATEGORIES);
     }
 }
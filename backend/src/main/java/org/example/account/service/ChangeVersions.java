@@ -0,0 +1,88 @@
+package org.example.account.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 집계 단위(거래는 월 단위)의 변경 버전 카운터. 조회 API는 이 값으로 ETag를 만들어 If-None-Match에 304로 답한다.
+ * 버전은 쓰기 트랜잭션이 커밋된 뒤에 올린다. 커밋 전에 올리면 그 사이 조회가 옛 데이터를 새 ETag로 내보낼 수 있다.
+ * 메모리에만 두므로 재기동 시 epoch가 바뀌어 이전 ETag는 모두 무효가 된다.
+ */
+@Component
+public class ChangeVersions {
+
+    public enum Aggregate {
+        TRANSACTIONS, // 어느 달이든 거래가 바뀌면 증가 (기간 없는 거래 조회용)
+        ASSETS, CATEGORIES, CARDS, BUDGETS,
+        RECURRING // 고정 비용 규칙 (조회 시 펼치는 가상 발생분용)
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Aggregate, AtomicLong> versions = new EnumMap<>(Aggregate.class);
+    private final Map<YearMonth, AtomicLong> transactionMonths = new ConcurrentHashMap<>();
+    private final AtomicLong allTransactionMonths = new AtomicLong(); // 모든 달을 한꺼번에 무효화 (자산 이름 변경 등)
+
+    public ChangeVersions() {
+        for (Aggregate aggregate : Aggregate.values()) {
+            versions.put(aggregate, new AtomicLong());
+        }
+    }
+
+    public void bump(Aggregate aggregate) {
+        AfterCommit.run(() -> versions.get(aggregate).incrementAndGet());
+    }
+
+    public void bumpTransactions(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        AfterCommit.run(() -> {
+            transactionMonths.computeIfAbsent(month, m -> new AtomicLong()).incrementAndGet();
+            versions.get(Aggregate.TRANSACTIONS).incrementAndGet();
+        });
+    }
+
+    /**
+     * 거래 응답에 포함된 자산 이름 등이 바뀌어 모든 달의 거래 응답이 달라질 때
+     */
+    public void bumpAllTransactions() {
+        AfterCommit.run(() -> {
+            allTransactionMonths.incrementAndGet();
+            versions.get(Aggregate.TRANSACTIONS).incrementAndGet();
+        });
+    }
+
+    public String etag(Aggregate... aggregates) {
+        StringBuilder sb = new StringBuilder("\"").append(epoch);
+        for (Aggregate aggregate : aggregates) {
+            sb.append('-').append(versions.get(aggregate).get());
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * 기간에 걸친 달들의 거래 버전 합 + 함께 응답에 들어가는 집계들의 버전
+     */
+    public String transactionsETag(LocalDate startDate, LocalDate endDate, Aggregate... aggregates) {
+        long sum = allTransactionMonths.get();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            AtomicLong version = transactionMonths.get(month);
+            if (version != null) {
+                sum += version.get();
+            }
+        }
+        String base = etag(aggregates);
+        return base.substring(0, base.length() - 1) + "-m" + sum + '"';
+    }
+
+    /**
+     * 응답이 오늘 날짜에도 달려 있을 때 (가상 발생분의 시작일/기본 기간) 날짜가 바뀌면 ETag도 바뀌게 한다
+     */
+    public static String asOf(String etag, LocalDate today) {
+        return etag.substring(0, etag.length() - 1) + "-d" + today + '"';
+    }
+}
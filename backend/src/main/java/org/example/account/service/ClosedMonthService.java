@@ -0,0 +1,113 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
+import org.example.account.domain.ClosedMonth;
+import org.example.account.dto.ClosedMonthResponse;
+import org.example.account.repository.ClosedMonthRepository;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 월 마감. 마감된 달의 거래는 추가/수정/삭제/확정할 수 없다.
+ * 쓰기 경로마다 조회하지 않도록 마감된 달 목록을 메모리에 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClosedMonthService {
+
+    private final ClosedMonthRepository closedMonthRepository;
+    private final TransactionRepository transactionRepository;
+
+    private volatile Set<YearMonth> closedMonths;
+
+    /**
+     * 지난달 이전만 마감할 수 있고, 예정(미확정) 거래가 남아 있으면 마감할 수 없다.
+     */
+    @Transactional
+    public ClosedMonthResponse close(int year, int month) {
+        YearMonth target = YearMonth.of(year, month);
+        if (!target.isBefore(YearMonth.now())) {
+            throw new IllegalArgumentException("이미 지난 달만 마감할 수 있습니다: " + target);
+        }
+        if (closedMonthRepository.existsByYearAndMonth(year, month)) {
+            throw new IllegalStateException("이미 마감된 월입니다: " + target);
+        }
+        if (transactionRepository.existsByIsConfirmedFalseAndDateBetween(target.atDay(1), target.atEndOfMonth())) {
+            throw new IllegalStateException("예정 거래가 남아 있어 마감할 수 없습니다: " + target);
+        }
+
+        ClosedMonth saved = closedMonthRepository.save(new ClosedMonth(year, month));
+        // 마감은 커밋 전부터 쓰기를 막고, 롤백되면 되돌린다 (해제는 커밋 후에만 반영)
+        closedMonths().add(target);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        closedMonths().remove(target);
+                    }
+                }
+            });
+        }
+        return ClosedMonthResponse.from(saved);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CLOSED_MONTH_TRANSACTIONS, key = "T(java.time.YearMonth).of(#year, #month)")
+    public void reopen(int year, int month) {
+        ClosedMonth closedMonth = closedMonthRepository.findByYearAndMonth(year, month)
+                .orElseThrow(() -> new IllegalArgumentException("마감되지 않은 월입니다: " + YearMonth.of(year, month)));
+        closedMonthRepository.delete(closedMonth);
+        AfterCommit.run(() -> closedMonths().remove(YearMonth.of(year, month)));
+    }
+
+    public List<ClosedMonthResponse> getClosedMonths() {
+        return closedMonthRepository.findAll().stream()
+                .sorted(Comparator.comparing(ClosedMonth::getYear).thenComparing(ClosedMonth::getMonth))
+                .map(ClosedMonthResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isClosed(YearMonth month) {
+        return closedMonths().contains(month);
+    }
+
+    /**
+     * 거래 쓰기 전 검사: 해당 날짜가 마감된 달이면 거부한다.
+     */
+    public void checkWritable(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        if (isClosed(month)) {
+            throw new IllegalStateException("마감된 월의 거래는 변경할 수 없습니다: " + month);
+        }
+    }
+
+    private Set<YearMonth> closedMonths() {
+        Set<YearMonth> months = closedMonths;
+        if (months == null) {
+            synchronized (this) {
+                if (closedMonths == null) {
+                    Set<YearMonth> loaded = ConcurrentHashMap.newKeySet();
+                    closedMonthRepository.findAll().forEach(m -> loaded.add(YearMonth.of(m.getYear(), m.getMonth())));
+                    closedMonths = loaded;
+                }
+                months = closedMonths;
+            }
+        }
+        return months;
+    }
+}
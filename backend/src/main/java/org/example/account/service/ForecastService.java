@@ -0,0 +1,168 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.domain.Asset;
+import org.example.account.domain.AssetType;
+import org.example.account.domain.Category;
+import org.example.account.domain.RecurringTransaction;
+import org.example.account.domain.Transaction;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.ForecastResponse;
+import org.example.account.dto.RecurringOccurrenceRow;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.RecurringTransactionRepository;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 현금 흐름 예측. 현재 자산 잔액에 예정 거래와 고정 비용 규칙이 앞으로 만들 거래를 더해 이번 달부터 N개월의
+ * 월별 수입/지출과 자산별 월말 잔액을 계산한다. 행을 만들지 않고 메모리에서 원 단위 long으로만 계산하므로
+ * 10년(120개월) x 수백 규칙도 배열 몇 개의 덧셈으로 끝난다.
+ *
+ * 고정 비용은 RecurringApplyService와 같은 규칙(말일 보정, 시작/종료 월, 지정 자산이 없으면 기본 자산,
+ * 이체는 입금 자산이 있을 때만 잔액 반영)으로 펼치고, 이미 거래가 생성된 (규칙, 월)은 그 거래로 대신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ForecastService {
+
+    public static final int MAX_MONTHS = 120;
+
+    private final AssetRepository assetRepository;
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final TransactionRepository transactionRepository;
+
+    public ForecastResponse forecast(int months) {
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new IllegalArgumentException("예측 기간은 1~" + MAX_MONTHS + "개월이어야 합니다: " + months);
+        }
+        LocalDate today = LocalDate.now();
+        YearMonth first = YearMonth.from(today);
+        YearMonth last = first.plusMonths(months - 1L);
+
+        List<Asset> assets = assetRepository.findAll();
+        Map<Long, Integer> assetIndex = new HashMap<>();
+        Integer defaultAsset = null;
+        for (int i = 0; i < assets.size(); i++) {
+            assetIndex.put(assets.get(i).getId(), i);
+            if (assets.get(i).isDefault()) {
+                defaultAsset = i;
+            }
+        }
+
+        Projection projection = new Projection(assets.size(), months);
+
+        // 1. 이미 있는 예정 거래 (지난 예정 거래는 이번 달에 확정될 것으로 본다)
+        for (Transaction tx : transactionRepository.findByIsConfirmedFalseAndDateLessThanEqual(last.atEndOfMonth())) {
+            int month = Math.max(0, monthIndex(first, YearMonth.from(tx.getDate())));
+            projection.add(tx.getCategory(), index(assetIndex, tx.getAsset()), index(assetIndex, tx.getToAsset()),
+                    Amounts.won(tx.getAmount()), month, false);
+        }
+
+        // 2. 고정 비용 규칙이 앞으로 만들 거래 (이미 생성된 월은 위 예정/확정 거래로 반영되어 있다)
+        Set<Long> materialized = new HashSet<>();
+        for (RecurringOccurrenceRow row : transactionRepository.findRecurringOccurrences(first.atDay(1), last.atEndOfMonth())) {
+            materialized.add(occurrenceKey(row.recurringTransactionId(), monthIndex(first, YearMonth.from(row.date()))));
+        }
+        for (RecurringTransaction rt : recurringTransactionRepository.findAllWithReferences()) {
+            int from = rt.getStartDate() != null ? Math.max(0, monthIndex(first, YearMonth.from(rt.getStartDate()))) : 0;
+            int to = rt.getEndDate() != null ? Math.min(months - 1, monthIndex(first, YearMonth.from(rt.getEndDate()))) : months - 1;
+            if (from > to) {
+                continue;
+            }
+            Integer asset = rt.getAsset() != null ? index(assetIndex, rt.getAsset()) : defaultAsset;
+            Integer toAsset = index(assetIndex, rt.getToAsset());
+            long amount = Amounts.won(rt.getAmount());
+            for (int month = from; month <= to; month++) {
+                if (!materialized.contains(occurrenceKey(rt.getId(), month))) {
+                    projection.add(rt.getCategory(), asset, toAsset, amount, month, true);
+                }
+            }
+        }
+
+        // 3. 현재 잔액에서 월별 변동을 누적해 월말 잔액/순자산을 만든다
+        long[] netWorth = new long[months];
+        List<ForecastResponse.AssetForecast> assetForecasts = new ArrayList<>(assets.size());
+        for (int a = 0; a < assets.size(); a++) {
+            Asset asset = assets.get(a);
+            long current = Amounts.won(asset.getBalance());
+            long balance = current;
+            long sign = asset.getType() == AssetType.DEBT ? -1 : 1;
+            long[] monthEnd = new long[months];
+            for (int m = 0; m < months; m++) {
+                balance += projection.balanceDeltas[a][m];
+                monthEnd[m] = balance;
+                netWorth[m] += sign * balance;
+            }
+            assetForecasts.add(new ForecastResponse.AssetForecast(asset.getId(), asset.getName(), asset.getType().name(), current, monthEnd));
+        }
+
+        List<ForecastResponse.MonthForecast> monthForecasts = new ArrayList<>(months);
+        for (int m = 0; m < months; m++) {
+            monthForecasts.add(new ForecastResponse.MonthForecast(first.plusMonths(m), projection.income[m], projection.expense[m], netWorth[m]));
+        }
+        return new ForecastResponse(today, monthForecasts, assetForecasts);
+    }
+
+    private static int monthIndex(YearMonth first, YearMonth month) {
+        return (month.getYear() - first.getYear()) * 12 + (month.getMonthValue() - first.getMonthValue());
+    }
+
+    private static long occurrenceKey(Long recurringTransactionId, int month) {
+        return recurringTransactionId * MAX_MONTHS + month;
+    }
+
+    private static Integer index(Map<Long, Integer> assetIndex, Asset asset) {
+        return asset != null ? assetIndex.get(asset.getId()) : null;
+    }
+
+    /**
+     * 월별 수입/지출과 자산별 월 변동 누적 배열. 부호 규칙은 AssetBalanceDeltas와 같다.
+     */
+    private static final class Projection {
+
+        private final long[] income;
+        private final long[] expense;
+        private final long[][] balanceDeltas;
+
+        Projection(int assets, int months) {
+            this.income = new long[months];
+            this.expense = new long[months];
+            this.balanceDeltas = new long[assets][months];
+        }
+
+        void add(Category category, Integer asset, Integer toAsset, long amount, int month, boolean transferNeedsBothAssets) {
+            boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
+            if (isAssetTransfer) {
+                if (asset == null || (transferNeedsBothAssets && toAsset == null)) {
+                    return;
+                }
+                balanceDeltas[asset][month] -= amount;
+                if (toAsset != null) {
+                    balanceDeltas[toAsset][month] += amount;
+                }
+            } else if (category.getType() == TransactionType.INCOME) {
+                income[month] += amount;
+                if (asset != null) {
+                    balanceDeltas[asset][month] += amount;
+                }
+            } else if (category.getType() == TransactionType.EXPENSE) {
+                expense[month] += amount;
+                if (asset != null) {
+                    balanceDeltas[asset][month] -= amount;
+                }
+            }
+        }
+    }
+}
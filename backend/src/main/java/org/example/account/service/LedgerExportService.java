@@ -0,0 +1,106 @@
+package org.example.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.repository.LedgerExportRepository;
+import org.example.account.repository.LedgerExportRow;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래 원장 전체를 CSV 또는 NDJSON으로 내보낸다.
+ * 커서에서 읽은 행을 곧바로 출력 스트림에 쓰므로 여러 해 분량도 메모리에 쌓이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerExportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final String CSV_HEADER = "id,date,type,category,amount,payment_method,card,asset,to_asset,confirmed,memo";
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final LedgerExportRepository ledgerExportRepository;
+    private final ObjectMapper objectMapper;
+
+    public long export(LocalDate startDate, LocalDate endDate, Format format, boolean gzip, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+        if (format == Format.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] count = {0};
+        ledgerExportRepository.forEach(
+                startDate != null ? startDate : MIN_DATE,
+                endDate != null ? endDate : MAX_DATE,
+                row -> {
+                    try {
+                        if (format == Format.CSV) {
+                            writeCsv(writer, row);
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                        }
+                        writer.write('\n');
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        log.info("원장 내보내기 완료: {}건, {}, gzip={}, {}ms", count[0], format, gzip, System.currentTimeMillis() - started);
+        return count[0];
+    }
+
+    private void writeCsv(Writer writer, LedgerExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.date().toString());
+        writer.write(',');
+        writer.write(csv(row.categoryType()));
+        writer.write(',');
+        writer.write(csv(row.categoryName()));
+        writer.write(',');
+        writer.write(row.amount().toPlainString());
+        writer.write(',');
+        writer.write(csv(row.paymentMethod()));
+        writer.write(',');
+        writer.write(csv(row.cardName()));
+        writer.write(',');
+        writer.write(csv(row.assetName()));
+        writer.write(',');
+        writer.write(csv(row.toAssetName()));
+        writer.write(',');
+        writer.write(row.confirmed() ? "true" : "false");
+        writer.write(',');
+        writer.write(csv(row.memo()));
+    }
+
+    /**
+     * RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다.
+     */
+    private String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
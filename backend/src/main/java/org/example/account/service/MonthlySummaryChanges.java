@@ -0,0 +1,85 @@
+package org.example.account.service;
+
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.Transaction;
+import org.example.account.repository.TransactionRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 거래의 월별 집계 변화를 집계 키별로 누적한다.
+ * 추가/제거 시점의 값으로 키를 만들므로, 거래를 수정하기 전에 remove, 수정한 뒤에 add를 호출하면 된다.
+ * 누적분은 MonthlySummaryService.apply로 키당 한 번씩 반영한다.
+ */
+public class MonthlySummaryChanges {
+
+    record SummaryKey(int year, int month, Long categoryId, PaymentMethod paymentMethod, boolean confirmed) {
+    }
+
+    static class Delta {
+        BigDecimal amount = BigDecimal.ZERO;
+        long count;
+    }
+
+    private final Map<SummaryKey, Delta> deltas = new HashMap<>();
+    private final Set<TransactionChangeTracker.Change> changes = new HashSet<>();
+
+    public void add(Transaction transaction) {
+        touch(transaction);
+        accumulate(transaction.getDate(), transaction.getCategory().getId(), transaction.getPaymentMethod(),
+                transaction.isConfirmed(), transaction.getAmount(), 1);
+    }
+
+    public void remove(Transaction transaction) {
+        touch(transaction);
+        accumulate(transaction.getDate(), transaction.getCategory().getId(), transaction.getPaymentMethod(),
+                transaction.isConfirmed(), transaction.getAmount().negate(), -1);
+    }
+
+    /**
+     * 예정 → 확정 전환 (엔티티를 바꾸지 않고 일괄 UPDATE로 확정하는 경우)
+     */
+    public void confirm(Transaction transaction) {
+        if (transaction.isConfirmed()) return;
+        remove(transaction);
+        accumulate(transaction.getDate(), transaction.getCategory().getId(), transaction.getPaymentMethod(),
+                true, transaction.getAmount(), 1);
+    }
+
+    public void add(TransactionRow row) {
+        changes.add(new TransactionChangeTracker.Change(row.cardId(), row.date()));
+        accumulate(row.date(), row.categoryId(), row.paymentMethod(), row.confirmed(), row.amount(), 1);
+    }
+
+    Map<SummaryKey, Delta> entries() {
+        return deltas;
+    }
+
+    /**
+     * 바뀐 거래의 (카드, 날짜) 목록
+     */
+    Set<TransactionChangeTracker.Change> changes() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    private void touch(Transaction transaction) {
+        Long cardId = transaction.getCard() != null ? transaction.getCard().getId() : null;
+        changes.add(new TransactionChangeTracker.Change(cardId, transaction.getDate()));
+    }
+
+    private void accumulate(LocalDate date, Long categoryId, PaymentMethod paymentMethod, boolean confirmed, BigDecimal amount, long count) {
+        Delta delta = deltas.computeIfAbsent(
+                new SummaryKey(date.getYear(), date.getMonthValue(), categoryId, paymentMethod, confirmed), k -> new Delta());
+        delta.amount = delta.amount.add(amount);
+        delta.count += count;
+    }
+}
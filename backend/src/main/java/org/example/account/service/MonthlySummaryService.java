@@ -0,0 +1,98 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.Category;
+import org.example.account.domain.Transaction;
+import org.example.account.dto.MonthlyCategorySummaryResponse;
+import org.example.account.repository.CategoryRepository;
+import org.example.account.repository.MonthlyCategorySummaryRepository;
+import org.example.account.repository.TransactionRow;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * monthly_category_summary 증분 갱신/조회.
+ * 갱신 메서드는 거래를 쓰는 서비스의 DB 트랜잭션 안에서 호출되어, 거래와 집계가 함께 커밋/롤백된다.
+ * 모든 거래 쓰기 경로가 이곳을 거치므로 TransactionChangeTracker와 예산 소진 카운터(BudgetLiveService)에도 바뀐 거래를 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonthlySummaryService {
+
+    private final MonthlyCategorySummaryRepository summaryRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionChangeTracker transactionChangeTracker;
+    private final BudgetLiveService budgetLiveService;
+
+    @Transactional
+    public void add(Transaction transaction) {
+        MonthlySummaryChanges changes = new MonthlySummaryChanges();
+        changes.add(transaction);
+        apply(changes);
+    }
+
+    @Transactional
+    public void remove(Transaction transaction) {
+        MonthlySummaryChanges changes = new MonthlySummaryChanges();
+        changes.remove(transaction);
+        apply(changes);
+    }
+
+    /**
+     * 대량 등록분을 집계 키별로 먼저 합친 뒤 키당 한 번씩만 upsert한다.
+     */
+    @Transactional
+    public void addAll(Collection<TransactionRow> rows) {
+        MonthlySummaryChanges changes = new MonthlySummaryChanges();
+        rows.forEach(changes::add);
+        apply(changes);
+    }
+
+    /**
+     * 누적된 변화를 키당 한 번씩 upsert한다. 서로 상쇄된 키(금액 0, 건수 0)는 건너뛴다.
+     * 거래에서 파생된 다른 캐시도 함께 무효화한다.
+     */
+    @Transactional
+    public void apply(MonthlySummaryChanges changes) {
+        changes.entries().forEach((key, delta) -> {
+            if (delta.count == 0 && delta.amount.signum() == 0) return;
+            summaryRepository.accumulate(
+                    key.year(), key.month(), key.categoryId(), key.paymentMethod().name(), key.confirmed(), delta.amount, delta.count);
+        });
+        transactionChangeTracker.changedAll(changes.changes());
+        budgetLiveService.record(changes);
+    }
+
+    public List<MonthlyCategorySummaryResponse> getYearSummary(Integer year) {
+        Map<Long, Category> categories = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        return summaryRepository.findByYearOrderByMonthAsc(year).stream()
+                .filter(s -> s.getTxCount() > 0 && categories.containsKey(s.getCategoryId()))
+                .map(s -> MonthlyCategorySummaryResponse.from(s, categories.get(s.getCategoryId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Transaction 테이블에서 집계를 다시 만든다. 증분 갱신 누락이나 직접 수정된 데이터로 생긴 드리프트를 보정한다.
+     */
+    @Scheduled(cron = "${summary.rebuild-cron:0 30 3 * * *}")
+    @Transactional
+    public int rebuild() {
+        long started = System.currentTimeMillis();
+        summaryRepository.deleteAllRows();
+        int rows = summaryRepository.insertFromTransactions();
+        log.info("월별 집계 재구축 완료: {}행, {}ms", rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+}
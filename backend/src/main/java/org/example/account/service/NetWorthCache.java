@@ -0,0 +1,220 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.Asset;
+import org.example.account.domain.AssetType;
+import org.example.account.dto.NetWorthConsistencyResponse;
+import org.example.account.dto.NetWorthResponse;
+import org.example.account.repository.AssetRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 순자산(NetWorthResponse)을 메모리에 두고 잔액이 바뀌는 쓰기가 커밋될 때마다 그 변동만 더한다.
+ * 잔액 변경은 모두 AssetBalanceService를 거치므로(거래, 고정 비용 적용, 자산 등록/수정) 그곳에서 자산별 변동을 넘기고,
+ * 자산 등록/삭제는 AssetService가 알린다. 그래도 모르는 자산의 변동이 오면 비워 두고 다음 조회 때 다시 읽는다.
+ *
+ * DB에서 다시 읽는 동안 커밋되는 쓰기가 있으면 읽은 값이 그 변동을 포함하는지 알 수 없으므로 캐시하지 않는다.
+ * 쓰기는 커밋 직전에 generation과 pending을 올리고, 커밋 직후 변동을 더하며, 커밋/롤백이 끝나면 pending을 내린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NetWorthCache {
+
+    private final AssetRepository assetRepository;
+
+    private final Object lock = new Object();
+    private Map<Long, Holding> holdings; // null이면 다음 조회 때 다시 읽는다
+    private volatile NetWorthResponse cached; // 조회는 잠그지 않고 읽는다
+    private long generation;
+    private int pending;
+
+    public NetWorthResponse get() {
+        NetWorthResponse current = cached;
+        return current != null ? current : load().response;
+    }
+
+    /**
+     * 자산별 잔액 변동을 커밋 직후 더한다 (롤백되면 더하지 않는다)
+     */
+    void applyDeltas(Map<Long, BigDecimal> deltas) {
+        if (deltas.isEmpty()) return;
+        afterCommit(() -> {
+            if (holdings == null) return;
+            Map<Long, Holding> updated = new HashMap<>(holdings);
+            for (Map.Entry<Long, BigDecimal> delta : deltas.entrySet()) {
+                Holding holding = updated.get(delta.getKey());
+                if (holding == null) {
+                    invalidate();
+                    return;
+                }
+                updated.put(delta.getKey(), new Holding(holding.type(), holding.balance().add(delta.getValue())));
+            }
+            install(updated);
+        });
+    }
+
+    /**
+     * 새 자산을 잔액 0으로 넣는다. 최초 잔액은 뒤이어 AssetBalanceService가 넘기는 변동으로 더해지므로,
+     * 잔액이 0/null이라 변동이 없어도 (새 유형이면 assetsByType에도) 자산이 나타난다.
+     */
+    void assetCreated(Long assetId, AssetType type) {
+        afterCommit(() -> {
+            if (holdings == null || holdings.containsKey(assetId)) return;
+            Map<Long, Holding> updated = new HashMap<>(holdings);
+            updated.put(assetId, new Holding(type, BigDecimal.ZERO));
+            install(updated);
+        });
+    }
+
+    void assetDeleted(Long assetId) {
+        afterCommit(() -> {
+            if (holdings == null || !holdings.containsKey(assetId)) return;
+            Map<Long, Holding> updated = new HashMap<>(holdings);
+            updated.remove(assetId);
+            install(updated);
+        });
+    }
+
+    /**
+     * 캐시된 값과 DB에서 다시 계산한 값을 비교하고, 다르면 다시 계산한 값으로 바꾼다.
+     * 비교하는 동안 잔액 쓰기가 커밋되면 두 값의 기준 시점이 달라지므로 판정하지 않는다 (checked = false).
+     */
+    @Scheduled(cron = "${net-worth.consistency-check-cron:0 */30 * * * *}")
+    public NetWorthConsistencyResponse check() {
+        NetWorthResponse before = cached;
+        Loaded loaded = load();
+        if (!loaded.installed) {
+            return new NetWorthConsistencyResponse(false, false, false, before, loaded.response);
+        }
+        boolean consistent = before == null || sameTotals(before, loaded.response);
+        if (!consistent) {
+            log.warn("순자산 캐시 불일치, 다시 계산한 값으로 교체: cached={}, recomputed={}", before, loaded.response);
+        }
+        return new NetWorthConsistencyResponse(true, consistent, before != null && !consistent, before, loaded.response);
+    }
+
+    private Loaded load() {
+        long startGeneration;
+        boolean idle;
+        synchronized (lock) {
+            startGeneration = generation;
+            idle = pending == 0;
+        }
+
+        Map<Long, Holding> loaded = new HashMap<>();
+        for (Asset asset : assetRepository.findAll()) {
+            loaded.put(asset.getId(), new Holding(asset.getType(), asset.getBalance() != null ? asset.getBalance() : BigDecimal.ZERO));
+        }
+
+        synchronized (lock) {
+            if (idle && generation == startGeneration) {
+                install(loaded);
+                return new Loaded(cached, true);
+            }
+        }
+        return new Loaded(summarize(loaded), false);
+    }
+
+    // lock 안에서 호출
+    private void install(Map<Long, Holding> updated) {
+        holdings = updated;
+        cached = summarize(updated);
+    }
+
+    // lock 안에서 호출
+    private void invalidate() {
+        holdings = null;
+        cached = null;
+    }
+
+    private void afterCommit(Runnable onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (lock) {
+                generation++;
+                onCommit.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (lock) {
+                    generation++;
+                    pending++;
+                    started = true;
+                }
+            }
+
+            // ChangeVersions보다 먼저 등록되므로 새 ETag가 나가기 전에 값이 바뀌어 있다
+            @Override
+            public void afterCommit() {
+                synchronized (lock) {
+                    onCommit.run();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!started) return;
+                synchronized (lock) {
+                    if (status == STATUS_UNKNOWN) {
+                        invalidate();
+                    }
+                    pending--;
+                    generation++;
+                }
+            }
+        });
+    }
+
+    /**
+     * DEBT는 부채, 나머지는 자산으로 합산한다. 유형별 합계는 부호 없이 잔액 그대로 더한다.
+     */
+    private static NetWorthResponse summarize(Map<Long, Holding> holdings) {
+        BigDecimal totalAssets = BigDecimal.ZERO;
+        BigDecimal totalLiabilities = BigDecimal.ZERO;
+        Map<String, BigDecimal> assetsByType = new HashMap<>();
+        for (Holding holding : holdings.values()) {
+            if (holding.type() == AssetType.DEBT) {
+                totalLiabilities = totalLiabilities.add(holding.balance());
+            } else {
+                totalAssets = totalAssets.add(holding.balance());
+            }
+            assetsByType.merge(holding.type().name(), holding.balance(), BigDecimal::add);
+        }
+        return new NetWorthResponse(totalAssets, totalLiabilities, totalAssets.subtract(totalLiabilities),
+                Collections.unmodifiableMap(assetsByType));
+    }
+
+    private static boolean sameTotals(NetWorthResponse a, NetWorthResponse b) {
+        if (!sameAmount(a.totalAssets(), b.totalAssets()) || !sameAmount(a.totalLiabilities(), b.totalLiabilities())
+                || !a.assetsByType().keySet().equals(b.assetsByType().keySet())) {
+            return false;
+        }
+        return a.assetsByType().entrySet().stream()
+                .allMatch(e -> sameAmount(e.getValue(), b.assetsByType().get(e.getKey())));
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return Objects.equals(a, b) || (a != null && b != null && a.compareTo(b) == 0);
+    }
+
+    private record Holding(AssetType type, BigDecimal balance) {
+    }
+
+    private record Loaded(NetWorthResponse response, boolean installed) {
+    }
+}
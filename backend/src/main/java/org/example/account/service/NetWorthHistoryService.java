@@ -0,0 +1,85 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.NetWorthSnapshotMarker;
+import org.example.account.dto.NetWorthHistoryResponse;
+import org.example.account.repository.AssetBalanceJournalRepository;
+import org.example.account.repository.NetWorthSnapshotMarkerRepository;
+import org.example.account.repository.NetWorthSnapshotRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 순자산 추이. 매일 자산별 잔액과 순자산 합계를 하루 한 행씩 스냅샷으로 남기고, 차트는 스냅샷만 읽는다.
+ * 스냅샷이 찍힌 날짜 이전으로 기록되는 변동은 AssetBalanceService가 이후 스냅샷에 바로 더하므로
+ * 한 번 만든 행을 다시 계산하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NetWorthHistoryService {
+
+    public enum Granularity {
+        DAY, WEEK, MONTH
+    }
+
+    // 재귀 CTE 깊이 제한(cte_max_recursion_depth 기본 1000) 안쪽으로 나눠 만든다
+    private static final int CHUNK_DAYS = 366;
+
+    private final NetWorthSnapshotRepository netWorthSnapshotRepository;
+    private final NetWorthSnapshotMarkerRepository netWorthSnapshotMarkerRepository;
+    private final AssetBalanceJournalRepository journalRepository;
+    private final ChangeVersions changeVersions;
+
+    /**
+     * 마지막 스냅샷 다음 날(없으면 이력이 시작된 날)부터 오늘까지 빠진 일별 스냅샷을 만든다.
+     * 매일 자정 직후 그날 행을 만들고, 기동 시에도 한 번 실행해 마이그레이션 직후의 과거 날짜와 꺼져 있던 기간을 채운다.
+     *
+     * 표지 행을 FOR UPDATE로 잠가 진행 중인 잔액 쓰기(FOR SHARE)가 커밋되길 기다린 뒤 이력을 읽고, 커밋할 때까지 새 쓰기를 막는다.
+     * READ COMMITTED라 INSERT ... SELECT가 원본(이력/자산)을 잠그지 않고 읽으므로, 자산 행을 잡은 채 표지를 기다리는 쓰기와 교착되지 않는다.
+     */
+    @Scheduled(cron = "${net-worth.snapshot-cron:0 1 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int takeMissingSnapshots() {
+        NetWorthSnapshotMarker marker = netWorthSnapshotMarkerRepository.findForUpdate();
+        LocalDate latest = marker.getLatestDate();
+        LocalDate from = latest != null ? latest.plusDays(1) : journalRepository.findFirstEffectiveDate();
+        LocalDate today = LocalDate.now();
+        if (from == null || from.isAfter(today)) return 0;
+
+        for (LocalDate chunkStart = from; !chunkStart.isAfter(today); chunkStart = chunkStart.plusDays(CHUNK_DAYS)) {
+            LocalDate chunkEnd = chunkStart.plusDays(CHUNK_DAYS - 1L);
+            if (chunkEnd.isAfter(today)) chunkEnd = today;
+            netWorthSnapshotRepository.insertAssetBalances(chunkStart, chunkEnd);
+            netWorthSnapshotRepository.insertTotals(chunkStart, chunkEnd);
+        }
+
+        marker.advanceTo(today);
+
+        int created = (int) ChronoUnit.DAYS.between(from, today) + 1;
+        changeVersions.bump(ChangeVersions.Aggregate.ASSETS);
+        log.info("순자산 일별 스냅샷 생성: {}일 ({} ~ {})", created, from, today);
+        return created;
+    }
+
+    public NetWorthHistoryResponse getHistory(LocalDate from, LocalDate to, Granularity granularity) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다: " + from + " > " + to);
+        }
+        List<NetWorthHistoryResponse.Point> points = netWorthSnapshotRepository.findHistory(from, to, granularity.name()).stream()
+                .map(s -> new NetWorthHistoryResponse.Point(s.getSnapshotDate(), s.getTotalAssets(), s.getTotalLiabilities(), s.getNetWorth()))
+                .toList();
+        return new NetWorthHistoryResponse(from, to, granularity.name(), points);
+    }
+}
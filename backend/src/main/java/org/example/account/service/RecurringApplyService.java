@@ -0,0 +1,124 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.domain.Asset;
+import org.example.account.domain.BalanceChangeSource;
+import org.example.account.domain.RecurringTransaction;
+import org.example.account.dto.RecurringOccurrenceRow;
+import org.example.account.repository.TransactionBatchRepository;
+import org.example.account.repository.TransactionRepository;
+import org.example.account.repository.TransactionRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고정 비용 일괄 적용 엔진.
+ * 규칙마다 exists/save를 반복하지 않고 기간 안에 이미 생성된 (규칙, 월) 쌍을 한 번에 읽은 뒤,
+ * 빠진 거래만 메모리에서 만들어 JDBC 배치로 넣는다. 자산 잔액은 자산별로 한 번만 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurringApplyService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final MonthlySummaryService monthlySummaryService;
+    private final ReferenceDataResolver referenceDataResolver;
+    private final ClosedMonthService closedMonthService;
+
+    /**
+     * from~to 월마다 규칙별 거래가 없으면 만든다. 규칙의 연관 엔티티는 미리 읽혀 있어야 한다 (findAllWithReferences).
+     * 시작 월 이전, 종료 월 이후, 마감된 월은 건너뛴다.
+     *
+     * @return 생성한 거래 수
+     */
+    @Transactional
+    public int apply(Collection<RecurringTransaction> rules, YearMonth from, YearMonth to, LocalDate today) {
+        Map<RecurringTransaction, YearMonth> firstMonths = new LinkedHashMap<>();
+        for (RecurringTransaction rt : rules) {
+            firstMonths.put(rt, from);
+        }
+        return apply(firstMonths, to, to.atEndOfMonth(), today);
+    }
+
+    /**
+     * 규칙마다 시작 월이 다른 경우 (밀린 월 따라잡기). 규칙별 시작 월~to 중 빠진 월을 한 번의 배치로 채운다.
+     * 발생일이 until 이후인 거래는 만들지 않는다.
+     *
+     * @return 생성한 거래 수
+     */
+    @Transactional
+    public int apply(Map<RecurringTransaction, YearMonth> firstMonths, YearMonth to, LocalDate until, LocalDate today) {
+        YearMonth from = firstMonths.values().stream().min(Comparator.naturalOrder()).orElse(null);
+        if (from == null || from.isAfter(to)) {
+            return 0;
+        }
+
+        Set<Occurrence> applied = new HashSet<>();
+        for (RecurringOccurrenceRow row : transactionRepository.findRecurringOccurrences(from.atDay(1), to.atEndOfMonth())) {
+            applied.add(new Occurrence(row.recurringTransactionId(), YearMonth.from(row.date())));
+        }
+
+        Long defaultAssetId = referenceDataResolver.findDefaultAsset().map(Asset::getId).orElse(null);
+        List<TransactionRow> rows = new ArrayList<>();
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (closedMonthService.isClosed(month)) {
+                continue;
+            }
+            for (Map.Entry<RecurringTransaction, YearMonth> entry : firstMonths.entrySet()) {
+                RecurringTransaction rt = entry.getKey();
+                if (month.isBefore(entry.getValue()) || !rt.isActiveIn(month)
+                        || applied.contains(new Occurrence(rt.getId(), month))) {
+                    continue;
+                }
+                LocalDate date = rt.occurrenceDate(month);
+                if (date.isAfter(until)) {
+                    continue;
+                }
+                TransactionRow row = toRow(rt, date, today, defaultAssetId);
+                rows.add(row);
+
+                deltas.applyOccurrence(rt, row.confirmed(), row.assetId(), row.toAssetId(), row.date());
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        // TransactionService와 같은 잠금 순서: 자산 잔액 갱신 후 거래 insert
+        if (!deltas.isEmpty()) {
+            assetBalanceService.apply(deltas, BalanceChangeSource.RECURRING);
+        }
+        transactionBatchRepository.insertAll(rows);
+        monthlySummaryService.addAll(rows);
+        return rows.size();
+    }
+
+    /**
+     * 이미 지난 날짜면 확정, 아니면 예정 거래로 만든다. 자산이 지정되지 않은 규칙은 기본 자산을 쓴다.
+     */
+    private static TransactionRow toRow(RecurringTransaction rt, LocalDate date, LocalDate today, Long defaultAssetId) {
+        Long assetId = rt.getAsset() != null ? rt.getAsset().getId() : defaultAssetId;
+        Long toAssetId = rt.getToAsset() != null ? rt.getToAsset().getId() : null;
+        Long cardId = rt.getCard() != null ? rt.getCard().getId() : null;
+        return new TransactionRow(date, rt.getAmount(), rt.getName() + " (고정비용)", rt.getPaymentMethod(),
+                rt.getCategory().getId(), cardId, rt.getId(), assetId, toAssetId, !date.isAfter(today));
+    }
+
+    private record Occurrence(Long recurringTransactionId, YearMonth month) {
+    }
+}
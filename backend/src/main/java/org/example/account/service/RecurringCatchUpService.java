@@ -0,0 +1,78 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.RecurringTransaction;
+import org.example.account.dto.ApplyRecurringResponse;
+import org.example.account.repository.RecurringTransactionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 비용 자동 적용. 규칙별 high-water mark(applied_through) 다음 월부터 이번 달까지, 발생일이 지난(오늘 포함) 거래 중
+ * 빠진 것을 한 번의 배치로 채운다. 앞으로 올 발생분은 행으로 만들지 않고 조회 시 규칙에서 펼쳐 보여준다
+ * (RecurringOccurrenceService). 이번 달 발생일이 아직 오지 않은 규칙은 mark를 지난달까지만 옮겨 다음 실행에서 다시 본다.
+ * 이미 생성된 (규칙, 월)은 다시 만들지 않으므로 여러 번 실행해도 결과가 같고, 수동 적용과 섞여도 중복이 생기지 않는다.
+ * 매일 새벽과 기동 직후(꺼져 있던 동안 밀린 발생분) 실행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecurringCatchUpService {
+
+    private final RecurringTransactionRepository repository;
+    private final RecurringApplyService recurringApplyService;
+
+    @Scheduled(cron = "${recurring.catch-up-cron:0 5 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public ApplyRecurringResponse catchUp() {
+        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(today);
+
+        Map<RecurringTransaction, YearMonth> firstMonths = new LinkedHashMap<>();
+        List<Long> throughCurrentMonth = new ArrayList<>();
+        List<Long> throughPreviousMonth = new ArrayList<>();
+
+        for (RecurringTransaction rt : repository.findNotAppliedThrough(currentMonth.atDay(1))) {
+            // 시작일 이전이면 아직 적용하지 않는다
+            if (rt.getStartDate() != null && rt.getStartDate().isAfter(today)) {
+                continue;
+            }
+            // 적용 이력도 시작일도 없으면 과거를 지어내지 않고 이번 달부터 (종료 월 이후는 엔진이 건너뛴다)
+            YearMonth first = rt.nextUnappliedMonth();
+            firstMonths.put(rt, first != null ? first : currentMonth);
+            if (rt.isActiveIn(currentMonth) && rt.occurrenceDate(currentMonth).isAfter(today)) {
+                throughPreviousMonth.add(rt.getId());
+            } else {
+                throughCurrentMonth.add(rt.getId());
+            }
+        }
+        if (firstMonths.isEmpty()) {
+            return new ApplyRecurringResponse(0, 0);
+        }
+
+        int applied = recurringApplyService.apply(firstMonths, currentMonth, today, today);
+        if (!throughCurrentMonth.isEmpty()) {
+            repository.markAppliedThrough(throughCurrentMonth, currentMonth.atDay(1));
+        }
+        if (!throughPreviousMonth.isEmpty()) {
+            repository.markAppliedThrough(throughPreviousMonth, currentMonth.minusMonths(1).atDay(1));
+        }
+
+        if (applied > 0) {
+            log.info("고정 비용 자동 적용: 규칙 {}건, 거래 {}건 생성", firstMonths.size(), applied);
+        }
+        return new ApplyRecurringResponse(applied, 0);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.domain.Asset;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.RecurringTransaction;
+import org.example.account.dto.RecurringOccurrenceRow;
+import org.example.account.dto.TransactionResponse;
+import org.example.account.repository.RecurringTransactionRepository;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고정 비용의 앞으로 올 발생분을 행으로 저장하지 않고 조회 시 규칙에서 펼친다.
+ * 발생일이 지나면 RecurringCatchUpService가 실제 거래로 만들고, 미리 수정하려면 수동 적용으로 이번 달 거래를 만든다.
+ * 이미 거래가 있는 (규칙, 월)은 펼치지 않으므로 실제 예정 거래와 겹치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecurringOccurrenceService {
+
+    /**
+     * 가상 발생분과 실제 거래를 날짜, id 순으로 합칠 때 쓴다 (가상 발생분은 같은 날짜의 맨 뒤)
+     */
+    public static final Comparator<TransactionResponse> ORDER = Comparator
+            .comparing(TransactionResponse::date)
+            .thenComparing(TransactionResponse::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final TransactionRepository transactionRepository;
+    private final ReferenceDataResolver referenceDataResolver;
+
+    /**
+     * startDate~endDate 중 오늘 이후(오늘 포함) 아직 거래가 없는 발생분. 결제수단이 주어지면 그 결제수단 규칙만.
+     */
+    public List<TransactionResponse> getOccurrences(LocalDate startDate, LocalDate endDate, PaymentMethod paymentMethod) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = startDate.isBefore(today) ? today : startDate;
+        if (from.isAfter(endDate)) {
+            return List.of();
+        }
+
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(endDate);
+        Set<Occurrence> materialized = new HashSet<>();
+        for (RecurringOccurrenceRow row : transactionRepository.findRecurringOccurrences(firstMonth.atDay(1), lastMonth.atEndOfMonth())) {
+            materialized.add(new Occurrence(row.recurringTransactionId(), YearMonth.from(row.date())));
+        }
+
+        Asset defaultAsset = referenceDataResolver.findDefaultAsset().orElse(null);
+        List<TransactionResponse> occurrences = new ArrayList<>();
+        for (RecurringTransaction rt : recurringTransactionRepository.findAllWithReferences()) {
+            if (paymentMethod != null && rt.getPaymentMethod() != paymentMethod) {
+                continue;
+            }
+            for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                LocalDate date = rt.occurrenceDate(month);
+                if (!rt.isActiveIn(month) || date.isBefore(from) || date.isAfter(endDate)
+                        || materialized.contains(new Occurrence(rt.getId(), month))) {
+                    continue;
+                }
+                occurrences.add(TransactionResponse.occurrence(rt, date, defaultAsset));
+            }
+        }
+        occurrences.sort(ORDER);
+        return occurrences;
+    }
+
+    /**
+     * 실제 거래 목록에 기간 안의 가상 발생분을 합쳐 날짜순으로 돌려준다
+     */
+    public List<TransactionResponse> merge(List<TransactionResponse> rows, LocalDate startDate, LocalDate endDate, PaymentMethod paymentMethod) {
+        List<TransactionResponse> occurrences = getOccurrences(startDate, endDate, paymentMethod);
+        if (occurrences.isEmpty()) {
+            return rows;
+        }
+        List<TransactionResponse> merged = new ArrayList<>(rows.size() + occurrences.size());
+        merged.addAll(rows);
+        merged.addAll(occurrences);
+        merged.sort(ORDER);
+        return merged;
+    }
+
+    private record Occurrence(Long recurringTransactionId, YearMonth month) {
+    }
+}
@@ -7,8 +7,6 @@ import org.example.account.dto.ApplyRecurringResponse;
 import org.example.account.dto.RecurringTransactionRequest;
 import org.example.account.dto.RecurringTransactionResponse;
 import org.example.account.repository.AssetRepository;
-import org.example.account.repository.CardRepository;
-import org.example.account.repository.CategoryRepository;
 import org.example.account.repository.RecurringTransactionRepository;
 import org.example.account.repository.TransactionRepository;
 import org.springframework.stereotype.Service;
@@ -16,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,19 +25,22 @@ import java.util.stream.Collectors;
 public class RecurringTransactionService {
 
     private final RecurringTransactionRepository repository;
-    private final CategoryRepository categoryRepository;
-    private final CardRepository cardRepository;
     private final TransactionRepository transactionRepository;
     private final AssetRepository assetRepository;
+    private final MonthlySummaryService monthlySummaryService;
+    private final AssetBalanceService assetBalanceService;
+    private final ReferenceDataResolver referenceDataResolver;
+    private final RecurringApplyService recurringApplyService;
+    private final ChangeVersions changeVersions;
 
     @Transactional
     public RecurringTransactionResponse create(RecurringTransactionRequest request) {
-        Category category = categoryRepository.findById(request.categoryId())
+        Category category = referenceDataResolver.findCategory(request.categoryId())
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
         Card card = null;
         if (request.paymentMethod() == PaymentMethod.CARD && request.cardId() != null) {
-            card = cardRepository.findById(request.cardId())
+            card = referenceDataResolver.findCard(request.cardId())
                     .orElseThrow(() -> new IllegalArgumentException("Card not found"));
         }
 
@@ -68,6 +70,7 @@ public class RecurringTransactionService {
         );
 
         RecurringTransaction saved = repository.save(rt);
+        changeVersions.bump(ChangeVersions.Aggregate.RECURRING);
 
         // 고정 비용 생성 시 Transaction 자동 생성 제거 — 일괄 적용 버튼으로만 생성
 
@@ -88,6 +91,7 @@ public class RecurringTransactionService {
         // 1. 기간 만료 체크 → 삭제
         if (rt.getEndDate() != null && rt.getEndDate().isBefore(today)) {
             repository.delete(rt);
+            changeVersions.bump(ChangeVersions.Aggregate.RECURRING);
             log.info("고정 비용 기간 만료로 삭제: {}", rt.getName());
             return new ApplyRecurringResponse(0, 1);
         }
@@ -108,36 +112,36 @@ public class RecurringTransactionService {
 
     /**
      * 수동 일괄 적용: 현재 월의 고정 비용 거래를 생성하고 기간 만료된 항목을 삭제한다.
+     * 규칙과 이미 적용된 (규칙, 월) 쌍을 각각 한 번에 읽어 빠진 거래만 배치로 넣는다 (RecurringApplyService).
      */
     @Transactional
     public ApplyRecurringResponse applyAllRecurringTransactions() {
         YearMonth currentMonth = YearMonth.now();
         LocalDate today = LocalDate.now();
-        List<RecurringTransaction> allRecurring = repository.findAll();
-        int appliedCount = 0;
-        int deletedCount = 0;
+        List<RecurringTransaction> allRecurring = repository.findAllWithReferences();
+        List<RecurringTransaction> expired = new ArrayList<>();
+        List<RecurringTransaction> active = new ArrayList<>();
 
         for (RecurringTransaction rt : allRecurring) {
             // 1. 기간 만료 체크 → 삭제
             if (rt.getEndDate() != null && rt.getEndDate().isBefore(today)) {
-                repository.delete(rt);
-                deletedCount++;
-                continue;
-            }
-
+                expired.add(rt);
             // 2. 시작일 이전이면 스킵
-            if (rt.getStartDate() != null && rt.getStartDate().isAfter(today)) {
-                continue;
+            } else if (rt.getStartDate() == null || !rt.getStartDate().isAfter(today)) {
+                active.add(rt);
             }
+        }
 
-            // 3. 해당 월 Transaction 생성 (기본 자산 할당)
-            if (createTransactionForMonth(rt, currentMonth)) {
-                appliedCount++;
-            }
+        if (!expired.isEmpty()) {
+            repository.deleteAllInBatch(expired);
+            changeVersions.bump(ChangeVersions.Aggregate.RECURRING);
         }
 
-        log.info("고정 비용 일괄 적용 완료: {}건 생성, {}건 삭제", appliedCount, deletedCount);
-        return new ApplyRecurringResponse(appliedCount, deletedCount);
+        // 3. 해당 월 Transaction 생성 (기본 자산 할당)
+        int appliedCount = recurringApplyService.apply(active, currentMonth, currentMonth, today);
+
+        log.info("고정 비용 일괄 적용 완료: {}건 생성, {}건 삭제", appliedCount, expired.size());
+        return new ApplyRecurringResponse(appliedCount, expired.size());
     }
 
     /**
@@ -171,7 +175,7 @@ public class RecurringTransactionService {
         Asset asset = rt.getAsset();
         Asset toAsset = rt.getToAsset();
         if (asset == null) {
-            asset = assetRepository.findByIsDefaultTrue().orElse(null);
+            asset = referenceDataResolver.findDefaultAsset().orElse(null);
         }
 
         Transaction transaction = new Transaction(
@@ -188,25 +192,14 @@ public class RecurringTransactionService {
         transaction.associateAsset(asset, toAsset);
 
         // 확정된 거래는 자산 잔액에 반영
-        if (isConfirmed) {
-            TransactionType categoryType = rt.getCategory().getType();
-            String categoryName = rt.getCategory().getName();
-            boolean isAssetTransfer = categoryType == TransactionType.TRANSFER || "저축/투자".equals(categoryName);
-
-            if (isAssetTransfer && asset != null && toAsset != null) {
-                // 이체/저축/투자: asset에서 출금, toAsset에 입금
-                asset.subtractBalance(rt.getAmount());
-                toAsset.addBalance(rt.getAmount());
-            } else if (asset != null) {
-                if (categoryType == TransactionType.EXPENSE) {
-                    asset.subtractBalance(rt.getAmount());
-                } else if (categoryType == TransactionType.INCOME) {
-                    asset.addBalance(rt.getAmount());
-                }
-            }
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+        deltas.applyOccurrence(rt, isConfirmed, asset != null ? asset.getId() : null, toAsset != null ? toAsset.getId() : null, transactionDate);
+        if (!deltas.isEmpty()) {
+            assetBalanceService.apply(deltas, BalanceChangeSource.RECURRING);
         }
 
         transactionRepository.save(transaction);
+        monthlySummaryService.add(transaction);
         return true;
     }
 
@@ -215,12 +208,12 @@ public class RecurringTransactionService {
         RecurringTransaction rt = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("RecurringTransaction not found"));
 
-        Category category = categoryRepository.findById(request.categoryId())
+        Category category = referenceDataResolver.findCategory(request.categoryId())
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
         Card card = null;
         if (request.paymentMethod() == PaymentMethod.CARD && request.cardId() != null) {
-            card = cardRepository.findById(request.cardId())
+            card = referenceDataResolver.findCard(request.cardId())
                     .orElseThrow(() -> new IllegalArgumentException("Card not found"));
         }
 
@@ -237,6 +230,7 @@ public class RecurringTransactionService {
         }
 
         rt.update(request.name(), request.amount(), request.dayOfMonth(), request.paymentMethod(), card, category, asset, toAsset, request.startDate(), request.endDate());
+        changeVersions.bump(ChangeVersions.Aggregate.RECURRING);
 
         // 현재 월의 미확정 거래도 함께 수정
         YearMonth currentMonth = YearMonth.now();
@@ -250,7 +244,9 @@ public class RecurringTransactionService {
         LocalDate newDate = currentMonth.atDay(dayOfMonth);
 
         for (Transaction tx : unconfirmedTxs) {
+            monthlySummaryService.remove(tx);
             tx.update(newDate, request.amount(), request.name() + " (고정비용)", request.paymentMethod(), category, card);
+            monthlySummaryService.add(tx);
         }
 
         return RecurringTransactionResponse.from(rt);
@@ -265,5 +261,6 @@ public class RecurringTransactionService {
     @Transactional
     public void delete(Long id) {
         repository.deleteById(id);
+        changeVersions.bump(ChangeVersions.Aggregate.RECURRING);
     }
 }
@@ -0,0 +1,44 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
+import org.example.account.domain.Asset;
+import org.example.account.domain.Card;
+import org.example.account.domain.Category;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.CardRepository;
+import org.example.account.repository.CategoryRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 거래 입력 시 매번 조회하던 카테고리/카드/기본 자산을 캐시에서 꺼내 준다.
+ * 캐시된 엔티티는 준영속 상태이므로 연관관계 지정과 id/이름 조회에만 사용하고, 값을 변경하지 않는다.
+ * 특히 기본 자산의 balance는 캐시 이후 바뀌므로 읽지 않는다.
+ * 무효화는 CategoryService, CardService, AssetService의 변경 메서드가 담당한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataResolver {
+
+    private final CategoryRepository categoryRepository;
+    private final CardRepository cardRepository;
+    private final AssetRepository assetRepository;
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, unless = "#result == null")
+    public Optional<Category> findCategory(Long id) {
+        return categoryRepository.findById(id);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CARDS, unless = "#result == null")
+    public Optional<Card> findCard(Long id) {
+        return cardRepository.findById(id);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.DEFAULT_ASSET, key = "'default'", unless = "#result == null")
+    public Optional<Asset> findDefaultAsset() {
+        return assetRepository.findByIsDefaultTrue();
+    }
+}
@@ -0,0 +1,314 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.account.domain.Asset;
+import org.example.account.domain.BalanceChangeSource;
+import org.example.account.domain.Category;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.StatementImportRequest;
+import org.example.account.dto.StatementImportResponse;
+import org.example.account.dto.StatementImportRule;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.CardRepository;
+import org.example.account.repository.CategoryRepository;
+import org.example.account.repository.TransactionBatchRepository;
+import org.example.account.repository.TransactionRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 은행/카드 명세서 CSV를 한 줄씩 읽어 Transaction으로 대량 등록한다.
+ * 카테고리/자산 등 참조 데이터는 시작 시 한 번만 읽고, CHUNK_SIZE건마다 JDBC 배치 insert와
+ * 자산별 잔액 반영을 하나의 DB 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatementImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ERRORS = 100;
+
+    private final CategoryRepository categoryRepository;
+    private final CardRepository cardRepository;
+    private final AssetRepository assetRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final MonthlySummaryService monthlySummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final ClosedMonthService closedMonthService;
+
+    /**
+     * 묶음마다 따로 커밋하므로 도중에 저장이 실패하거나 파일을 끝까지 읽지 못하면 앞 묶음은 이미 반영되어 있다.
+     * 이때는 예외를 던지지 않고 completed = false와 함께 마지막으로 커밋된 줄(committedThroughLine)을 돌려주므로,
+     * 그 다음 줄부터 다시 가져오면 중복 없이 이어진다.
+     */
+    public StatementImportResponse importStatement(InputStream csv, StatementImportRequest request) {
+        long started = System.nanoTime();
+        ImportContext context = prepare(request);
+
+        List<TransactionRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+        List<String> errors = new ArrayList<>();
+        int imported = 0;
+        int skipped = 0;
+        int chunks = 0;
+        int lineNumber = 0;
+        int committedThroughLine = 0;
+        boolean completed = true;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && context.hasHeader()) continue;
+                if (line.isBlank()) continue;
+
+                TransactionRow row;
+                try {
+                    row = context.toRow(parseCsvLine(line));
+                    closedMonthService.checkWritable(row.date());
+                } catch (RuntimeException e) {
+                    skipped++;
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add("line " + lineNumber + ": " + e.getMessage());
+                    }
+                    continue;
+                }
+
+                chunk.add(row);
+                if (row.confirmed()) {
+                    deltas.apply(context.categories().get(row.categoryId()), row.assetId(), row.toAssetId(), row.amount(), row.date());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    imported += flush(chunk, deltas);
+                    chunks++;
+                    committedThroughLine = lineNumber;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += flush(chunk, deltas);
+                chunks++;
+            }
+            committedThroughLine = lineNumber;
+        } catch (IOException | RuntimeException e) {
+            completed = false;
+            errors.add("line " + (committedThroughLine + 1) + " 이후 중단: " + e.getMessage());
+            log.warn("명세서 가져오기 중단: {}건 등록 (line {}까지 커밋)", imported, committedThroughLine, e);
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? imported * 1000.0 / elapsedMillis : imported;
+        if (completed) {
+            log.info("명세서 가져오기 완료: {}건 등록, {}건 건너뜀, {}ms ({}건/초)", imported, skipped, elapsedMillis, Math.round(rowsPerSecond));
+        }
+
+        return new StatementImportResponse(completed, committedThroughLine, imported, skipped, chunks, elapsedMillis, rowsPerSecond, errors);
+    }
+
+    /**
+     * 한 묶음을 하나의 DB 트랜잭션으로 저장: 자산별 누적 잔액을 한 번씩만 반영한 뒤 배치 insert한다.
+     * 화면 입력과 같은 순서(자산 잠금 → 거래 insert)로 잠가 동시 실행 시 교착 상태를 피한다.
+     */
+    private int flush(List<TransactionRow> chunk, AssetBalanceDeltas deltas) {
+        int size = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            assetBalanceService.apply(deltas, BalanceChangeSource.IMPORT);
+            transactionBatchRepository.insertAll(chunk);
+            monthlySummaryService.addAll(chunk);
+        });
+        chunk.clear();
+        deltas.clear();
+        return size;
+    }
+
+    private ImportContext prepare(StatementImportRequest request) {
+        if (request.paymentMethod() == null) {
+            throw new IllegalArgumentException("paymentMethod is required");
+        }
+        if (request.dateColumn() == null || request.amountColumn() == null) {
+            throw new IllegalArgumentException("dateColumn and amountColumn are required");
+        }
+
+        Map<Long, Category> categories = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        requireCategory(categories, request.defaultExpenseCategoryId());
+        requireCategory(categories, request.defaultIncomeCategoryId());
+        List<StatementImportRule> rules = request.rules() != null ? request.rules() : List.of();
+        for (StatementImportRule rule : rules) {
+            if (rule.keyword() == null || rule.keyword().isBlank()) {
+                throw new IllegalArgumentException("Rule keyword is required");
+            }
+            requireCategory(categories, rule.categoryId());
+            if (rule.assetId() != null && !assetRepository.existsById(rule.assetId())) {
+                throw new IllegalArgumentException("Asset not found: " + rule.assetId());
+            }
+        }
+
+        Long cardId = null;
+        if (request.paymentMethod() == PaymentMethod.CARD && request.cardId() != null) {
+            cardId = cardRepository.findById(request.cardId())
+                    .orElseThrow(() -> new IllegalArgumentException("Card not found"))
+                    .getId();
+        }
+
+        if (request.assetId() != null && !assetRepository.existsById(request.assetId())) {
+            throw new IllegalArgumentException("Asset not found");
+        }
+        Long defaultAssetId = assetRepository.findByIsDefaultTrue().map(Asset::getId).orElse(null);
+
+        boolean positiveIsExpense = request.positiveAmountIsExpense() != null
+                ? request.positiveAmountIsExpense()
+                : request.paymentMethod() == PaymentMethod.CARD;
+
+        return new ImportContext(
+                request,
+                categories,
+                rules,
+                cardId,
+                defaultAssetId,
+                DateTimeFormatter.ofPattern(request.datePattern() != null ? request.datePattern() : "yyyy-MM-dd"),
+                positiveIsExpense,
+                request.hasHeader() == null || request.hasHeader(),
+                request.isConfirmed() == null || request.isConfirmed()
+        );
+    }
+
+    private void requireCategory(Map<Long, Category> categories, Long categoryId) {
+        if (categoryId != null && !categories.containsKey(categoryId)) {
+            throw new IllegalArgumentException("Category not found: " + categoryId);
+        }
+    }
+
+    private record ImportContext(
+            StatementImportRequest request,
+            Map<Long, Category> categories,
+            List<StatementImportRule> rules,
+            Long cardId,
+            Long defaultAssetId,
+            DateTimeFormatter dateFormatter,
+            boolean positiveIsExpense,
+            boolean hasHeader,
+            boolean confirmed
+    ) {
+
+        TransactionRow toRow(List<String> columns) {
+            LocalDate date = LocalDate.parse(column(columns, request.dateColumn()).trim(), dateFormatter);
+
+            // 금액이 지출인지 수입인지 판단 (출금/입금 컬럼 분리형 또는 부호형)
+            BigDecimal amount;
+            boolean expense;
+            if (request.depositColumn() != null) {
+                BigDecimal withdrawal = parseAmount(column(columns, request.amountColumn()));
+                BigDecimal deposit = parseAmount(column(columns, request.depositColumn()));
+                expense = withdrawal.signum() != 0;
+                amount = expense ? withdrawal.abs() : deposit.abs();
+            } else {
+                BigDecimal signed = parseAmount(column(columns, request.amountColumn()));
+                expense = signed.signum() < 0 || positiveIsExpense;
+                amount = signed.abs();
+            }
+            if (amount.signum() == 0) {
+                throw new IllegalArgumentException("amount is zero");
+            }
+
+            String memo = request.memoColumn() != null ? column(columns, request.memoColumn()).trim() : null;
+
+            // 규칙 매칭 (먼저 일치한 규칙 우선), 없으면 기본 카테고리
+            Long categoryId = null;
+            Long assetId = request.assetId();
+            if (memo != null) {
+                String lowerMemo = memo.toLowerCase(Locale.ROOT);
+                for (StatementImportRule rule : rules) {
+                    if (lowerMemo.contains(rule.keyword().toLowerCase(Locale.ROOT))) {
+                        categoryId = rule.categoryId();
+                        if (rule.assetId() != null) {
+                            assetId = rule.assetId();
+                        }
+                        break;
+                    }
+                }
+            }
+            if (categoryId == null) {
+                categoryId = expense ? request.defaultExpenseCategoryId() : request.defaultIncomeCategoryId();
+            }
+            if (categoryId == null) {
+                throw new IllegalArgumentException("no matching rule and no default " + (expense ? "expense" : "income") + " category");
+            }
+
+            // INCOME/EXPENSE에서 자산 미지정 시 기본 자산 사용 (이체/저축/투자는 명시적 지정 필요)
+            Category category = categories.get(categoryId);
+            boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
+            if (assetId == null && !isAssetTransfer) {
+                assetId = defaultAssetId;
+            }
+
+            return new TransactionRow(date, amount, memo, request.paymentMethod(), categoryId, cardId, null, assetId, null, confirmed);
+        }
+
+        private static String column(List<String> columns, int index) {
+            if (index >= columns.size()) {
+                throw new IllegalArgumentException("missing column " + index);
+            }
+            return columns.get(index);
+        }
+
+        private static BigDecimal parseAmount(String raw) {
+            String cleaned = raw.replace(",", "").replace("원", "").trim();
+            return cleaned.isEmpty() ? BigDecimal.ZERO : new BigDecimal(cleaned);
+        }
+    }
+
+    /**
+     * RFC 4180 형식의 CSV 한 줄을 컬럼으로 나눈다. 따옴표로 감싼 값 안의 쉼표와 "" 이스케이프를 처리한다.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.account.domain.*;
+import org.example.account.dto.TransactionBatchOperation;
+import org.example.account.dto.TransactionBatchResponse;
+import org.example.account.dto.TransactionBatchResult;
+import org.example.account.dto.TransactionRequest;
+import org.example.account.dto.TransactionResponse;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 생성/수정/삭제/확정을 섞은 작업 목록을 하나의 DB 트랜잭션으로 처리한다.
+ * 1) 참조하는 거래와 자산을 각각 한 번의 쿼리로 미리 읽고
+ * 2) 변경 전 상태로 자산 잔액 변화와 월별 집계 변화를 누적한 뒤
+ * 3) 자산 잔액을 자산별로 한 번씩 먼저 반영하고 (TransactionService와 같은 잠금 순서)
+ * 4) 거래 변경과 집계 upsert를 수행한다.
+ * 한 작업이라도 실패하면 전체가 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionBatchService {
+
+    private static final int MAX_OPERATIONS = 1_000;
+
+    private final TransactionRepository transactionRepository;
+    private final AssetRepository assetRepository;
+    private final ReferenceDataResolver referenceDataResolver;
+    private final AssetBalanceService assetBalanceService;
+    private final MonthlySummaryService monthlySummaryService;
+
+    @Transactional
+    public TransactionBatchResponse apply(List<TransactionBatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("operations is required");
+        }
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 작업은 최대 " + MAX_OPERATIONS + "건입니다.");
+        }
+
+        Map<Long, Transaction> transactions = prefetchTransactions(operations);
+        Map<Long, Asset> assets = prefetchAssets(operations);
+
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+        MonthlySummaryChanges summary = new MonthlySummaryChanges();
+        List<Supplier<TransactionBatchResult>> executions = new ArrayList<>(operations.size());
+
+        for (TransactionBatchOperation op : operations) {
+            if (op.type() == null) {
+                throw new IllegalArgumentException("operation type is required");
+            }
+            executions.add(switch (op.type()) {
+                case CREATE -> planCreate(op, assets, deltas, summary);
+                case UPDATE -> planUpdate(op, transactions.get(op.id()), assets, deltas, summary);
+                case DELETE -> planDelete(op, transactions.get(op.id()), deltas, summary);
+                case CONFIRM -> planConfirm(op, transactions.get(op.id()), deltas, summary);
+            });
+        }
+
+        assetBalanceService.apply(deltas, BalanceChangeSource.TRANSACTION);
+
+        List<TransactionBatchResult> results = executions.stream()
+                .map(Supplier::get)
+                .collect(Collectors.toList());
+
+        monthlySummaryService.apply(summary);
+        return new TransactionBatchResponse(results);
+    }
+
+    private Supplier<TransactionBatchResult> planCreate(TransactionBatchOperation op, Map<Long, Asset> assets,
+                                                        AssetBalanceDeltas deltas, MonthlySummaryChanges summary) {
+        TransactionRequest request = requireRequest(op);
+        Category category = resolveCategory(request);
+        Card card = resolveCard(request);
+        Asset asset = resolveAsset(request, category, assets);
+        Asset toAsset = request.toAssetId() != null ? assets.get(request.toAssetId()) : null;
+        boolean confirmed = request.isConfirmed() != null ? request.isConfirmed() : true;
+
+        if (confirmed) {
+            applyBalance(deltas, category, asset, toAsset, request);
+        }
+
+        return () -> {
+            Transaction transaction = new Transaction(request.date(), request.amount(), request.memo(),
+                    request.paymentMethod(), category, confirmed, card);
+            transaction.associateAsset(asset, toAsset);
+            Transaction saved = transactionRepository.save(transaction);
+            summary.add(saved);
+            return new TransactionBatchResult(op.type(), saved.getId(), TransactionResponse.from(saved));
+        };
+    }
+
+    private Supplier<TransactionBatchResult> planUpdate(TransactionBatchOperation op, Transaction transaction, Map<Long, Asset> assets,
+                                                        AssetBalanceDeltas deltas, MonthlySummaryChanges summary) {
+        TransactionRequest request = requireRequest(op);
+        summary.remove(transaction);
+        if (transaction.isConfirmed() && transaction.getAsset() != null) {
+            deltas.reverse(transaction.getCategory(), transaction.getAsset().getId(), idOf(transaction.getToAsset()),
+                    transaction.getAmount(), transaction.getDate());
+        }
+
+        Category category = resolveCategory(request);
+        Card card = resolveCard(request);
+        Asset asset = resolveAsset(request, category, assets);
+        Asset toAsset = request.toAssetId() != null ? assets.get(request.toAssetId()) : null;
+        // 확정된 거래를 예정으로 되돌리는 기능은 없으므로 확정 여부는 켜는 방향으로만 바뀐다
+        boolean confirmed = transaction.isConfirmed() || Boolean.TRUE.equals(request.isConfirmed());
+
+        if (confirmed) {
+            applyBalance(deltas, category, asset, toAsset, request);
+        }
+
+        return () -> {
+            transaction.update(request.date(), request.amount(), request.memo(), request.paymentMethod(), category, card);
+            transaction.associateAsset(asset, toAsset);
+            if (confirmed) {
+                transaction.confirm();
+            }
+            summary.add(transaction);
+            return new TransactionBatchResult(op.type(), transaction.getId(), TransactionResponse.from(transaction));
+        };
+    }
+
+    private Supplier<TransactionBatchResult> planDelete(TransactionBatchOperation op, Transaction transaction,
+                                                        AssetBalanceDeltas deltas, MonthlySummaryChanges summary) {
+        summary.remove(transaction);
+        if (transaction.isConfirmed() && transaction.getAsset() != null) {
+            deltas.reverse(transaction.getCategory(), transaction.getAsset().getId(), idOf(transaction.getToAsset()),
+                    transaction.getAmount(), transaction.getDate());
+        }
+
+        return () -> {
+            transactionRepository.delete(transaction);
+            return new TransactionBatchResult(op.type(), op.id(), null);
+        };
+    }
+
+    private Supplier<TransactionBatchResult> planConfirm(TransactionBatchOperation op, Transaction transaction,
+                                                         AssetBalanceDeltas deltas, MonthlySummaryChanges summary) {
+        // 이미 확정된 거래는 잔액을 두 번 반영하지 않도록 건너뛴다
+        if (transaction.isConfirmed()) {
+            return () -> new TransactionBatchResult(op.type(), transaction.getId(), TransactionResponse.from(transaction));
+        }
+
+        summary.remove(transaction);
+        if (transaction.getAsset() != null) {
+            deltas.apply(transaction.getCategory(), transaction.getAsset().getId(), idOf(transaction.getToAsset()),
+                    transaction.getAmount(), transaction.getDate());
+        }
+
+        return () -> {
+            transaction.confirm();
+            summary.add(transaction);
+            return new TransactionBatchResult(op.type(), transaction.getId(), TransactionResponse.from(transaction));
+        };
+    }
+
+    /**
+     * UPDATE/DELETE/CONFIRM 대상 거래를 연관 엔티티와 함께 한 번에 읽는다.
+     * 같은 거래를 두 번 이상 다루면 변경 전 상태 기준의 잔액 계산이 어긋나므로 허용하지 않는다.
+     */
+    private Map<Long, Transaction> prefetchTransactions(List<TransactionBatchOperation> operations) {
+        Set<Long> ids = new HashSet<>();
+        for (TransactionBatchOperation op : operations) {
+            if (op.type() == null || op.type() == TransactionBatchOperation.Type.CREATE) continue;
+            if (op.id() == null) {
+                throw new IllegalArgumentException(op.type() + " requires id");
+            }
+            if (!ids.add(op.id())) {
+                throw new IllegalArgumentException("같은 거래를 한 요청에서 여러 번 변경할 수 없습니다: " + op.id());
+            }
+        }
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Long, Transaction> found = transactionRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!found.containsKey(id)) {
+                throw new IllegalArgumentException("Transaction not found: " + id);
+            }
+        }
+        return found;
+    }
+
+    private Map<Long, Asset> prefetchAssets(List<TransactionBatchOperation> operations) {
+        Set<Long> ids = new HashSet<>();
+        for (TransactionBatchOperation op : operations) {
+            if (op.transaction() == null) continue;
+            if (op.transaction().assetId() != null) ids.add(op.transaction().assetId());
+            if (op.transaction().toAssetId() != null) ids.add(op.transaction().toAssetId());
+        }
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Long, Asset> found = assetRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Asset::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!found.containsKey(id)) {
+                throw new IllegalArgumentException("Asset not found: " + id);
+            }
+        }
+        return found;
+    }
+
+    private TransactionRequest requireRequest(TransactionBatchOperation op) {
+        if (op.transaction() == null) {
+            throw new IllegalArgumentException(op.type() + " requires transaction");
+        }
+        return op.transaction();
+    }
+
+    private Category resolveCategory(TransactionRequest request) {
+        return referenceDataResolver.findCategory(request.categoryId())
+                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
+    }
+
+    private Card resolveCard(TransactionRequest request) {
+        if (request.paymentMethod() != PaymentMethod.CARD || request.cardId() == null) return null;
+        return referenceDataResolver.findCard(request.cardId())
+                .orElseThrow(() -> new IllegalArgumentException("Card not found"));
+    }
+
+    /**
+     * INCOME/EXPENSE에서 assetId 미지정 시 기본 자산 사용 (저축/투자는 이체처럼 명시적 지정 필요)
+     */
+    private Asset resolveAsset(TransactionRequest request, Category category, Map<Long, Asset> assets) {
+        if (request.assetId() != null) {
+            return assets.get(request.assetId());
+        }
+        boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
+        return isAssetTransfer ? null : referenceDataResolver.findDefaultAsset().orElse(null);
+    }
+
+    private void applyBalance(AssetBalanceDeltas deltas, Category category, Asset asset, Asset toAsset, TransactionRequest request) {
+        if (asset == null) return;
+        deltas.apply(category, asset.getId(), idOf(toAsset), request.amount(), request.date());
+    }
+
+    private Long idOf(Asset asset) {
+        return asset != null ? asset.getId() : null;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 거래가 추가/수정/삭제/확정된 (카드, 날짜)를 받아 거래에서 파생된 캐시를 무효화하고 해당 월의 변경 버전을 올린다.
+ * 모든 거래 쓰기 경로가 거치는 MonthlySummaryService에서 호출하므로, 각 서비스가 따로 알릴 필요가 없다.
+ * 같은 이유로 마감된 달의 거래 변경을 막는 마지막 방어선도 여기에 둔다 (예외 시 쓰기 트랜잭션 전체 롤백).
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionChangeTracker {
+
+    public record Change(Long cardId, LocalDate date) {
+    }
+
+    private final CardStatementService cardStatementService;
+    private final ChangeVersions changeVersions;
+    private final ClosedMonthService closedMonthService;
+
+    public void changed(Long cardId, LocalDate date) {
+        closedMonthService.checkWritable(date);
+        changeVersions.bumpTransactions(date);
+        if (cardId != null) {
+            cardStatementService.evict(cardId, date);
+        }
+    }
+
+    public void changedAll(Collection<Change> changes) {
+        changes.forEach(change -> changed(change.cardId(), change.date()));
+    }
+}
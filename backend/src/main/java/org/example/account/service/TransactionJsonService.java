@@ -0,0 +1,112 @@
+package org.example.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.account.config.CacheConfig;
+import org.example.account.domain.Transaction;
+import org.example.account.dto.TransactionResponse;
+import org.example.account.repository.TransactionRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 기간별 거래 목록을 JSON 배열 바이트로 만든다.
+ * 기간에 통째로 포함된 마감 월은 미리 직렬화해 둔 바이트를 그대로 이어 붙이고, 나머지 구간만 조회/직렬화한다.
+ * 결과는 List&lt;TransactionResponse&gt;를 직렬화한 것과 같은 형식이며 날짜, id 순으로 정렬된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionJsonService {
+
+    private final TransactionRepository transactionRepository;
+    private final ClosedMonthService closedMonthService;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public byte[] getTransactionsJson(LocalDate startDate, LocalDate endDate) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        boolean[] first = {true};
+
+        LocalDate liveStart = null; // 아직 조회하지 않은 열린 구간의 시작
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            LocalDate monthStart = max(month.atDay(1), startDate);
+            LocalDate monthEnd = min(month.atEndOfMonth(), endDate);
+            boolean wholeMonth = monthStart.equals(month.atDay(1)) && monthEnd.equals(month.atEndOfMonth());
+
+            if (wholeMonth && closedMonthService.isClosed(month)) {
+                if (liveStart != null) {
+                    appendLive(out, first, liveStart, monthStart.minusDays(1));
+                    liveStart = null;
+                }
+                append(out, first, closedMonthJson(month));
+            } else if (liveStart == null) {
+                liveStart = monthStart;
+            }
+        }
+        if (liveStart != null) {
+            appendLive(out, first, liveStart, endDate);
+        }
+
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    /**
+     * 마감 월의 거래 배열 요소들 (대괄호 없이 쉼표로 이은 JSON)
+     */
+    private byte[] closedMonthJson(YearMonth month) {
+        Cache cache = cacheManager.getCache(CacheConfig.CLOSED_MONTH_TRANSACTIONS);
+        if (cache == null) {
+            return serialize(transactionRepository.findByDateBetweenOrderByDateAscIdAsc(month.atDay(1), month.atEndOfMonth()));
+        }
+        return cache.get(month, () -> serialize(
+                transactionRepository.findByDateBetweenOrderByDateAscIdAsc(month.atDay(1), month.atEndOfMonth())));
+    }
+
+    private void appendLive(ByteArrayOutputStream out, boolean[] first, LocalDate start, LocalDate end) {
+        append(out, first, serialize(transactionRepository.findByDateBetweenOrderByDateAscIdAsc(start, end)));
+    }
+
+    private void append(ByteArrayOutputStream out, boolean[] first, byte[] elements) {
+        if (elements.length == 0) return;
+        if (!first[0]) {
+            out.write(',');
+        }
+        out.writeBytes(elements);
+        first[0] = false;
+    }
+
+    private byte[] serialize(List<Transaction> transactions) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            for (int i = 0; i < transactions.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.writeBytes(objectMapper.writeValueAsBytes(TransactionResponse.from(transactions.get(i))));
+            }
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -2,38 +2,53 @@ package org.example.account.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.account.domain.*;
+import org.example.account.dto.TransactionFilter;
+import org.example.account.dto.TransactionPageResponse;
 import org.example.account.dto.TransactionRequest;
+import org.example.account.dto.TransactionSearchResponse;
 import org.example.account.dto.TransactionResponse;
 import org.example.account.repository.AssetRepository;
-import org.example.account.repository.CardRepository;
-import org.example.account.repository.CategoryRepository;
 import org.example.account.repository.TransactionRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TransactionService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int PLANNED_OCCURRENCE_MONTHS = 3;
+
     private final TransactionRepository transactionRepository;
-    private final CategoryRepository categoryRepository;
-    private final CardRepository cardRepository;
     private final AssetRepository assetRepository;
+    private final MonthlySummaryService monthlySummaryService;
+    private final AssetBalanceService assetBalanceService;
+    private final ReferenceDataResolver referenceDataResolver;
+    private final ClosedMonthService closedMonthService;
+    private final RecurringOccurrenceService recurringOccurrenceService;
 
     @Transactional
     public TransactionResponse createTransaction(TransactionRequest request) {
-        Category category = categoryRepository.findById(request.categoryId())
+        closedMonthService.checkWritable(request.date());
+        Category category = referenceDataResolver.findCategory(request.categoryId())
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
         Card card = null;
         if (request.paymentMethod() == PaymentMethod.CARD && request.cardId() != null) {
-            card = cardRepository.findById(request.cardId())
+            card = referenceDataResolver.findCard(request.cardId())
                     .orElseThrow(() -> new IllegalArgumentException("Card not found"));
         }
 
@@ -46,7 +61,7 @@ public class TransactionService {
         // INCOME/EXPENSE에서 assetId 미지정 시 기본 자산 자동 사용 (단, 저축/투자는 이체처럼 명시적 지정 필요)
         boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
         if (asset == null && !isAssetTransfer) {
-            asset = assetRepository.findByIsDefaultTrue().orElse(null);
+            asset = referenceDataResolver.findDefaultAsset().orElse(null);
         }
 
         Asset toAsset = null;
@@ -69,10 +84,11 @@ public class TransactionService {
         transaction.associateAsset(asset, toAsset);
 
         if (confirmed) {
-            applyAssetBalance(category, asset, toAsset, request.amount());
+            applyAssetBalance(category, asset, toAsset, request.amount(), request.date());
         }
 
         Transaction saved = transactionRepository.save(transaction);
+        monthlySummaryService.add(saved);
         return TransactionResponse.from(saved);
     }
 
@@ -80,6 +96,9 @@ public class TransactionService {
     public TransactionResponse updateTransaction(Long id, TransactionRequest request) {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
+        closedMonthService.checkWritable(transaction.getDate());
+        closedMonthService.checkWritable(request.date());
+        monthlySummaryService.remove(transaction);
 
         // 기존 거래가 확정 상태였으면 자산 되돌림
         if (transaction.isConfirmed() && transaction.getAsset() != null) {
@@ -87,16 +106,17 @@ public class TransactionService {
                     transaction.getCategory(),
                     transaction.getAsset(),
                     transaction.getToAsset(),
-                    transaction.getAmount()
+                    transaction.getAmount(),
+                    transaction.getDate()
             );
         }
 
-        Category category = categoryRepository.findById(request.categoryId())
+        Category category = referenceDataResolver.findCategory(request.categoryId())
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
         Card card = null;
         if (request.paymentMethod() == PaymentMethod.CARD && request.cardId() != null) {
-            card = cardRepository.findById(request.cardId())
+            card = referenceDataResolver.findCard(request.cardId())
                     .orElseThrow(() -> new IllegalArgumentException("Card not found"));
         }
 
@@ -109,7 +129,7 @@ public class TransactionService {
         // INCOME/EXPENSE에서 assetId 미지정 시 기본 자산 자동 사용 (단, 저축/투자는 이체처럼 명시적 지정 필요)
         boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
         if (asset == null && !isAssetTransfer) {
-            asset = assetRepository.findByIsDefaultTrue().orElse(null);
+            asset = referenceDataResolver.findDefaultAsset().orElse(null);
         }
 
         Asset toAsset = null;
@@ -132,9 +152,10 @@ public class TransactionService {
 
         // 새 값이 확정이면 자산 반영
         if (confirmed) {
-            applyAssetBalance(category, asset, toAsset, request.amount());
+            applyAssetBalance(category, asset, toAsset, request.amount(), request.date());
         }
 
+        monthlySummaryService.add(transaction);
         return TransactionResponse.from(transaction);
     }
 
@@ -142,6 +163,7 @@ public class TransactionService {
     public void deleteTransaction(Long id) {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
+        closedMonthService.checkWritable(transaction.getDate());
 
         // 확정 상태이고 자산이 연결되어 있으면 되돌림
         if (transaction.isConfirmed() && transaction.getAsset() != null) {
@@ -149,10 +171,12 @@ public class TransactionService {
                     transaction.getCategory(),
                     transaction.getAsset(),
                     transaction.getToAsset(),
-                    transaction.getAmount()
+                    transaction.getAmount(),
+                    transaction.getDate()
             );
         }
 
+        monthlySummaryService.remove(transaction);
         transactionRepository.delete(transaction);
     }
 
@@ -160,8 +184,11 @@ public class TransactionService {
     public TransactionResponse confirmTransaction(Long transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
+        closedMonthService.checkWritable(transaction.getDate());
 
+        monthlySummaryService.remove(transaction);
         transaction.confirm();
+        monthlySummaryService.add(transaction);
 
         // 확정 시 자산 반영
         if (transaction.getAsset() != null) {
@@ -169,7 +196,8 @@ public class TransactionService {
                     transaction.getCategory(),
                     transaction.getAsset(),
                     transaction.getToAsset(),
-                    transaction.getAmount()
+                    transaction.getAmount(),
+                    transaction.getDate()
             );
         }
 
@@ -182,16 +210,105 @@ public class TransactionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 키셋 페이지 조회: 한 페이지보다 한 건 더 읽어 다음 페이지 존재 여부를 판단한다.
+     */
+    public TransactionPageResponse getTransactionPage(TransactionFilter filter, LocalDate cursorDate, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Transaction> rows = transactionRepository.findPage(filter, cursorDate, cursorId, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionResponse> content = rows.stream()
+                .limit(pageSize)
+                .map(TransactionResponse::from)
+                .collect(Collectors.toList());
+
+        if (!hasNext) {
+            return new TransactionPageResponse(content, false, null, null);
+        }
+        TransactionResponse last = content.get(content.size() - 1);
+        return new TransactionPageResponse(content, true, last.date(), last.id());
+    }
+
+    /**
+     * 조건에 맞는 거래를 한 건씩 consumer에 넘긴다. 전체 목록을 메모리에 올리지 않으므로 기간 크기와 무관하게 메모리 사용량이 일정하다.
+     */
+    public void streamTransactions(TransactionFilter filter, Consumer<TransactionResponse> consumer) {
+        try (Stream<Transaction> rows = transactionRepository.streamAll(filter)) {
+            rows.map(TransactionResponse::from).forEach(consumer);
+        }
+    }
+
+    /**
+     * 메모 검색: 공백으로 나눈 검색어를 모두 포함하는 거래를 관련도 순으로 반환한다.
+     * ngram 토큰 크기(2)보다 짧은 검색어는 인덱스로 찾을 수 없으므로 제외한다.
+     */
+    public TransactionSearchResponse searchTransactions(String q, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        String query = toBooleanQuery(q);
+
+        List<Long> ids = transactionRepository.searchMemoIds(query, pageSize + 1, pageNumber * pageSize);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new TransactionSearchResponse(List.of(), pageNumber, pageSize, false);
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 검색 순위대로 다시 정렬한다
+        Map<Long, Transaction> byId = transactionRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+        List<TransactionResponse> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(TransactionResponse::from)
+                .collect(Collectors.toList());
+        return new TransactionSearchResponse(content, pageNumber, pageSize, hasNext);
+    }
+
+    /**
+     * "스타벅스 커피" → +"스타벅스" +"커피". 불리언 모드 연산자로 쓰이는 문자는 제거한다.
+     */
+    private String toBooleanQuery(String q) {
+        String query = Arrays.stream(q == null ? new String[0] : q.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> term.length() >= 2)
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 2글자 이상이어야 합니다.");
+        }
+        return query;
+    }
+
     public List<TransactionResponse> getTransactionsByPaymentMethod(PaymentMethod paymentMethod, LocalDate startDate, LocalDate endDate) {
         return transactionRepository.findByPaymentMethodAndDateBetween(paymentMethod, startDate, endDate).stream()
                 .map(TransactionResponse::from)
                 .collect(Collectors.toList());
     }
 
-    public List<TransactionResponse> getFuturePlannedTransactions() {
-        return transactionRepository.findFuturePlannedTransactions(LocalDate.now()).stream()
+    /**
+     * 오늘 이후 예정 거래. 아직 생성되지 않은 고정 비용 발생분은 endDate까지(없으면 이번 달 포함 PLANNED_OCCURRENCE_MONTHS개월) 규칙에서 펼쳐 함께 돌려준다.
+     */
+    public List<TransactionResponse> getFuturePlannedTransactions(LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        List<TransactionResponse> planned = transactionRepository.findFuturePlannedTransactions(today).stream()
+                .filter(tx -> endDate == null || !tx.getDate().isAfter(endDate))
                 .map(TransactionResponse::from)
                 .collect(Collectors.toList());
+        LocalDate occurrenceEnd = endDate != null ? endDate
+                : YearMonth.from(today).plusMonths(PLANNED_OCCURRENCE_MONTHS - 1).atEndOfMonth();
+        return recurringOccurrenceService.merge(planned, today, occurrenceEnd, null);
+    }
+
+    /**
+     * 기간 조회에 아직 생성되지 않은 고정 비용 발생분을 합친다 (달력 등 미래 기간 조회용)
+     */
+    public List<TransactionResponse> getTransactionsWithOccurrences(LocalDate startDate, LocalDate endDate, PaymentMethod paymentMethod) {
+        List<TransactionResponse> rows = paymentMethod != null
+                ? getTransactionsByPaymentMethod(paymentMethod, startDate, endDate)
+                : getTransactions(startDate, endDate);
+        return recurringOccurrenceService.merge(rows, startDate, endDate, paymentMethod);
     }
 
     public List<TransactionResponse> getTransactionsByCard(Long cardId, LocalDate startDate, LocalDate endDate) {
@@ -212,22 +329,12 @@ public class TransactionService {
      * EXPENSE → asset 잔액 감소
      * TRANSFER 또는 저축/투자 → asset 잔액 감소 + toAsset 잔액 증가
      */
-    private void applyAssetBalance(Category category, Asset asset, Asset toAsset, BigDecimal amount) {
+    private void applyAssetBalance(Category category, Asset asset, Asset toAsset, BigDecimal amount, LocalDate date) {
         if (asset == null) return;
 
-        boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
-
-        if (isAssetTransfer) {
-            asset.subtractBalance(amount);
-            if (toAsset != null) {
-                toAsset.addBalance(amount);
-            }
-        } else {
-            switch (category.getType()) {
-                case INCOME -> asset.addBalance(amount);
-                case EXPENSE -> asset.subtractBalance(amount);
-            }
-        }
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+        deltas.apply(category, asset.getId(), toAsset != null ? toAsset.getId() : null, amount, date);
+        assetBalanceService.apply(deltas, BalanceChangeSource.TRANSACTION);
     }
 
     /**
@@ -236,21 +343,11 @@ public class TransactionService {
      * EXPENSE → asset 잔액 증가
      * TRANSFER 또는 저축/투자 → asset 잔액 증가 + toAsset 잔액 감소
      */
-    private void reverseAssetBalance(Category category, Asset asset, Asset toAsset, BigDecimal amount) {
+    private void reverseAssetBalance(Category category, Asset asset, Asset toAsset, BigDecimal amount, LocalDate date) {
         if (asset == null) return;
 
-        boolean isAssetTransfer = category.getType() == TransactionType.TRANSFER || "저축/투자".equals(category.getName());
-
-        if (isAssetTransfer) {
-            asset.addBalance(amount);
-            if (toAsset != null) {
-                toAsset.subtractBalance(amount);
-            }
-        } else {
-            switch (category.getType()) {
-                case INCOME -> asset.subtractBalance(amount);
-                case EXPENSE -> asset.addBalance(amount);
-            }
-        }
+        AssetBalanceDeltas deltas = new AssetBalanceDeltas();
+        deltas.reverse(category, asset.getId(), toAsset != null ? toAsset.getId() : null, amount, date);
+        assetBalanceService.apply(deltas, BalanceChangeSource.TRANSACTION);
     }
 }
@@ -0,0 +1,18 @@
+-- 순자산 추이 차트용 일별 스냅샷. 자산별 잔액과 NetWorthResponse 합계를 하루 한 행씩 남긴다.
+-- 과거 날짜로 기록된 변동은 AssetBalanceService가 이후 날짜 행에 바로 더하므로 행이 만들어진 뒤에도 이력 합계와 일치한다.
+CREATE TABLE asset_daily_balance (
+    snapshot_date DATE NOT NULL,
+    asset_id BIGINT NOT NULL,
+    balance DECIMAL(38,2) NOT NULL,
+    PRIMARY KEY (snapshot_date, asset_id),
+    INDEX idx_asset_daily_balance_asset (asset_id, snapshot_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 자산이 삭제되어도 그날까지의 합계는 남긴다
+CREATE TABLE net_worth_snapshot (
+    snapshot_date DATE NOT NULL,
+    total_assets DECIMAL(38,2) NOT NULL,
+    total_liabilities DECIMAL(38,2) NOT NULL,
+    net_worth DECIMAL(38,2) NOT NULL,
+    PRIMARY KEY (snapshot_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
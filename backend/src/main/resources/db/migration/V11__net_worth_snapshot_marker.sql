@@ -0,0 +1,11 @@
+-- 일별 순자산 스냅샷이 어느 날짜까지 만들어졌는지 기록하는 한 행짜리 표지.
+-- 잔액 쓰기는 이 행을 FOR SHARE로, 스냅샷 생성은 FOR UPDATE로 잠가 둘을 직렬화한다.
+-- (쓰기가 "아직 스냅샷 없음"을 읽은 사이 스냅샷이 그 쓰기를 빼고 만들어지면 이후 shift도 되지 않아 그날 값이 영구히 어긋난다)
+CREATE TABLE net_worth_snapshot_marker (
+    id INT NOT NULL,
+    latest_date DATE NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO net_worth_snapshot_marker (id, latest_date)
+SELECT 1, MAX(snapshot_date) FROM net_worth_snapshot;
@@ -1,13 +1,8 @@
 -- Personal Finance Dashboard DDL
 -- MySQL 8.0
-
--- Drop tables if exist (in reverse dependency order)
-DROP TABLE IF EXISTS recurring_transaction;
-DROP TABLE IF EXISTS budget;
-DROP TABLE IF EXISTS transaction;
-DROP TABLE IF EXISTS card;
-DROP TABLE IF EXISTS asset;
-DROP TABLE IF EXISTS category;
+-- 기존 ddl-auto: update로 생성된 스키마는 Flyway baseline(V1)으로 간주되어 이 스크립트를 건너뛴다.
+-- 예전 schema.sql의 보조 인덱스(idx_transaction_date, idx_budget_year_month)는 이 스키마에 넣지 않았다.
+-- 외래 키 컬럼(category_id 등)은 외래 키가 자동으로 만드는 인덱스를 쓴다.
 
 -- Category Table
 CREATE TABLE category (
@@ -30,24 +25,51 @@ CREATE TABLE asset (
     id BIGINT NOT NULL AUTO_INCREMENT,
     type VARCHAR(20) NOT NULL,
     name VARCHAR(255) NOT NULL,
-    balance DECIMAL(19,2) NOT NULL,
-    purchase_price DECIMAL(19,2),
+    balance DECIMAL(38,2) NOT NULL,
+    purchase_price DECIMAL(38,2),
+    is_default BOOLEAN NOT NULL DEFAULT FALSE,
     PRIMARY KEY (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Recurring Transaction Table
+CREATE TABLE recurring_transaction (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    amount DECIMAL(38,2) NOT NULL,
+    day_of_month INT NOT NULL,
+    payment_method VARCHAR(20) NOT NULL,
+    card_id BIGINT,
+    category_id BIGINT NOT NULL,
+    asset_id BIGINT,
+    to_asset_id BIGINT,
+    start_date DATE,
+    end_date DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_recurring_category FOREIGN KEY (category_id) REFERENCES category(id),
+    CONSTRAINT fk_recurring_card FOREIGN KEY (card_id) REFERENCES card(id),
+    CONSTRAINT fk_recurring_asset FOREIGN KEY (asset_id) REFERENCES asset(id),
+    CONSTRAINT fk_recurring_to_asset FOREIGN KEY (to_asset_id) REFERENCES asset(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- Transaction Table
 CREATE TABLE transaction (
     id BIGINT NOT NULL AUTO_INCREMENT,
     date DATE NOT NULL,
-    amount DECIMAL(19,2) NOT NULL,
+    amount DECIMAL(38,2) NOT NULL,
     memo VARCHAR(255),
     payment_method VARCHAR(20) NOT NULL,
     category_id BIGINT NOT NULL,
     card_id BIGINT,
+    recurring_transaction_id BIGINT,
+    asset_id BIGINT,
+    to_asset_id BIGINT,
     is_confirmed BOOLEAN NOT NULL DEFAULT FALSE,
     PRIMARY KEY (id),
     CONSTRAINT fk_transaction_category FOREIGN KEY (category_id) REFERENCES category(id),
-    CONSTRAINT fk_transaction_card FOREIGN KEY (card_id) REFERENCES card(id)
+    CONSTRAINT fk_transaction_card FOREIGN KEY (card_id) REFERENCES card(id),
+    CONSTRAINT fk_transaction_recurring FOREIGN KEY (recurring_transaction_id) REFERENCES recurring_transaction(id),
+    CONSTRAINT fk_transaction_asset FOREIGN KEY (asset_id) REFERENCES asset(id),
+    CONSTRAINT fk_transaction_to_asset FOREIGN KEY (to_asset_id) REFERENCES asset(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- Budget Table
@@ -55,29 +77,20 @@ CREATE TABLE budget (
     id BIGINT NOT NULL AUTO_INCREMENT,
     year INT NOT NULL,
     month INT NOT NULL,
-    amount DECIMAL(19,2) NOT NULL,
+    amount DECIMAL(38,2) NOT NULL,
     category_id BIGINT NOT NULL,
     PRIMARY KEY (id),
     CONSTRAINT fk_budget_category FOREIGN KEY (category_id) REFERENCES category(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
--- Recurring Transaction Table
-CREATE TABLE recurring_transaction (
+-- My Stock Table
+CREATE TABLE my_stock (
     id BIGINT NOT NULL AUTO_INCREMENT,
-    name VARCHAR(255) NOT NULL,
-    amount DECIMAL(19,2) NOT NULL,
-    day_of_month INT NOT NULL,
-    payment_method VARCHAR(20) NOT NULL,
-    card_id BIGINT,
-    category_id BIGINT NOT NULL,
-    PRIMARY KEY (id),
-    CONSTRAINT fk_recurring_category FOREIGN KEY (category_id) REFERENCES category(id),
-    CONSTRAINT fk_recurring_card FOREIGN KEY (card_id) REFERENCES card(id)
+    ticker VARCHAR(255) NOT NULL UNIQUE,
+    company_name VARCHAR(255) NOT NULL,
+    purchase_price DECIMAL(19,4) NOT NULL,
+    quantity INT NOT NULL,
+    current_price DECIMAL(19,4),
+    last_synced_at DATETIME(6),
+    PRIMARY KEY (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
-
--- Create indexes for better performance
-CREATE INDEX idx_transaction_date ON transaction(date);
-CREATE INDEX idx_transaction_category ON transaction(category_id);
-CREATE INDEX idx_budget_year_month ON budget(year, month);
-CREATE INDEX idx_budget_category ON budget(category_id);
-CREATE INDEX idx_recurring_category ON recurring_transaction(category_id);
@@ -0,0 +1,29 @@
+-- Transaction 조회 패턴별 복합 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (date) 인덱스는 (date, id) 키셋 페이지 조회에도 그대로 쓰인다.
+
+-- findByDateBetween, 키셋 페이지/스트리밍 조회
+-- 예전 schema.sql로 만든 DB에는 같은 이름의 (date) 인덱스가 이미 있으므로 있으면 먼저 지운다 (MySQL에는 DROP INDEX IF EXISTS가 없다)
+SET @drop_legacy_date_index = (
+    SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_transaction_date ON transaction', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'transaction' AND index_name = 'idx_transaction_date'
+);
+PREPARE drop_legacy_date_index FROM @drop_legacy_date_index;
+EXECUTE drop_legacy_date_index;
+DEALLOCATE PREPARE drop_legacy_date_index;
+CREATE INDEX idx_transaction_date ON transaction (date);
+
+-- findByPaymentMethodAndDateBetween
+CREATE INDEX idx_transaction_payment_method_date ON transaction (payment_method, date);
+
+-- findByCardIdAndDateBetween, findByCardId
+CREATE INDEX idx_transaction_card_date ON transaction (card_id, date);
+
+-- existsByRecurringTransactionIdAndDateBetween, findByRecurringTransactionIdAndIsConfirmedFalseAndDateBetween
+CREATE INDEX idx_transaction_recurring_date ON transaction (recurring_transaction_id, date);
+
+-- findFuturePlannedTransactions
+CREATE INDEX idx_transaction_confirmed_date ON transaction (is_confirmed, date);
+
+-- sumAmountByCategory: 기간 집계를 테이블 접근 없이 인덱스만으로 처리하는 커버링 인덱스
+CREATE INDEX idx_transaction_date_category_amount ON transaction (date, category_id, is_confirmed, amount);
@@ -0,0 +1,19 @@
+-- 월별 카테고리 집계 테이블 (year, month, category, payment_method, is_confirmed 단위)
+-- 거래 쓰기 시 같은 DB 트랜잭션에서 증분 갱신되고, 야간 재구축 작업이 드리프트를 보정한다.
+CREATE TABLE monthly_category_summary (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    category_id BIGINT NOT NULL,
+    payment_method VARCHAR(20) NOT NULL,
+    is_confirmed BOOLEAN NOT NULL,
+    total_amount DECIMAL(38,2) NOT NULL,
+    tx_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_category_summary UNIQUE (year, month, category_id, payment_method, is_confirmed)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO monthly_category_summary (year, month, category_id, payment_method, is_confirmed, total_amount, tx_count)
+SELECT YEAR(date), MONTH(date), category_id, payment_method, is_confirmed, SUM(amount), COUNT(*)
+FROM transaction
+GROUP BY YEAR(date), MONTH(date), category_id, payment_method, is_confirmed;
@@ -0,0 +1,58 @@
+-- 자산 잔액 변동 이력(append-only)과 월말 스냅샷
+CREATE TABLE asset_balance_journal (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    asset_id BIGINT NOT NULL,
+    effective_date DATE NOT NULL,
+    delta DECIMAL(38,2) NOT NULL,
+    source VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_balance_journal_asset_date (asset_id, effective_date, delta)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE asset_balance_snapshot (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    asset_id BIGINT NOT NULL,
+    snapshot_date DATE NOT NULL,
+    balance DECIMAL(38,2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_balance_snapshot_asset_date UNIQUE (asset_id, snapshot_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 확정 거래로부터 과거 잔액 변동을 재구성한다 (TransactionService의 잔액 반영 규칙과 동일)
+INSERT INTO asset_balance_journal (asset_id, effective_date, delta, source, created_at)
+SELECT t.asset_id,
+       t.date,
+       SUM(CASE
+               WHEN c.type = 'TRANSFER' OR c.name = '저축/투자' THEN -t.amount
+               WHEN c.type = 'INCOME' THEN t.amount
+               ELSE -t.amount
+           END),
+       'TRANSACTION',
+       NOW(6)
+FROM transaction t
+JOIN category c ON c.id = t.category_id
+WHERE t.is_confirmed = TRUE AND t.asset_id IS NOT NULL
+GROUP BY t.asset_id, t.date;
+
+INSERT INTO asset_balance_journal (asset_id, effective_date, delta, source, created_at)
+SELECT t.to_asset_id, t.date, SUM(t.amount), 'TRANSACTION', NOW(6)
+FROM transaction t
+JOIN category c ON c.id = t.category_id
+WHERE t.is_confirmed = TRUE AND t.asset_id IS NOT NULL AND t.to_asset_id IS NOT NULL
+  AND (c.type = 'TRANSFER' OR c.name = '저축/투자')
+GROUP BY t.to_asset_id, t.date;
+
+-- 현재 잔액과 재구성 합계의 차이는 최초 잔액(OPENING)으로 기록해 이력 합계가 현재 잔액과 일치하게 한다
+INSERT INTO asset_balance_journal (asset_id, effective_date, delta, source, created_at)
+SELECT a.id,
+       COALESCE(j.first_date, CURDATE()),
+       a.balance - COALESCE(j.total, 0),
+       'OPENING',
+       NOW(6)
+FROM asset a
+LEFT JOIN (
+    SELECT asset_id, MIN(effective_date) AS first_date, SUM(delta) AS total
+    FROM asset_balance_journal
+    GROUP BY asset_id
+) j ON j.asset_id = a.id;
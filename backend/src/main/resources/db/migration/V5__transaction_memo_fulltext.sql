@@ -0,0 +1,2 @@
+-- 메모 전문 검색용 인덱스. 한국어는 공백 단위 토큰화가 맞지 않으므로 ngram 파서(기본 2글자)를 사용한다.
+ALTER TABLE transaction ADD FULLTEXT INDEX ft_transaction_memo (memo) WITH PARSER ngram;
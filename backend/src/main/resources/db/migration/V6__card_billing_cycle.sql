@@ -0,0 +1,4 @@
+-- 카드 결제 주기: 매월 closing_day에 마감, payment_day에 결제 (둘 다 말일보다 크면 말일로 본다)
+ALTER TABLE card
+    ADD COLUMN closing_day INT NULL,
+    ADD COLUMN payment_day INT NULL;
@@ -0,0 +1,9 @@
+-- 마감된 (연, 월). 마감된 달의 거래는 추가/수정/삭제/확정할 수 없다.
+CREATE TABLE closed_month (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    closed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_closed_month UNIQUE (year, month)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,3 @@
+-- 고정 비용 자동 적용 high-water mark: 이 월(1일로 저장)까지는 적용이 끝났으므로 다음 실행은 그 다음 월부터 본다
+ALTER TABLE recurring_transaction
+    ADD COLUMN applied_through DATE NULL;
@@ -0,0 +1,15 @@
+-- 예산 기간 키: period_month = year * 12 + month (BudgetService/집계 테이블과 같은 총 개월 수 표현)
+-- (year * 12 + month) 식으로 거르던 기간 조회가 인덱스를 타도록 컬럼으로 저장하고, (기간, 카테고리)당 한 행만 허용한다.
+ALTER TABLE budget ADD COLUMN period_month INT NULL;
+
+UPDATE budget SET period_month = year * 12 + month;
+
+-- 같은 (기간, 카테고리)에 중복 행이 있으면 마지막으로 만든 행만 남긴다
+DELETE b FROM budget b
+JOIN budget newer ON newer.period_month = b.period_month
+    AND newer.category_id = b.category_id
+    AND newer.id > b.id;
+
+ALTER TABLE budget
+    MODIFY COLUMN period_month INT NOT NULL,
+    ADD CONSTRAINT uk_budget_period_category UNIQUE (period_month, category_id);
@@ -0,0 +1,23 @@
+package org.example.account;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 벤치마크/부하 테스트 공통 설정. 운영 DB 대신 별도 account_benchmark DB를 사용하고,
+ * 일반 test 태스크에서는 제외되어 ./gradlew :backend:benchmark 로만 실행된다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:mysql://localhost:3306/account_benchmark?createDatabaseIfNotExist=true&serverTimezone=Asia/Seoul&characterEncoding=UTF-8&rewriteBatchedStatements=true",
+        "spring.jpa.show-sql=false"
+})
+public @interface BenchmarkTest {
+}
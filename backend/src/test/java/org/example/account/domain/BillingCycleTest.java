@@ -0,0 +1,78 @@
+package org.example.account.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 주기 경계 계산: 말일 보정, 결제일이 마감일 이하일 때 다음 달로 넘김, 마감일 당일의 소속 주기.
+ */
+class BillingCycleTest {
+
+    @Test
+    void closingDayBeyondMonthLengthIsClampedToLastDay() {
+        Card card = card(31, 10);
+
+        BillingCycle february = BillingCycle.of(card, YearMonth.of(2025, 2));
+        assertThat(february.startDate()).isEqualTo(LocalDate.of(2025, 2, 1));
+        assertThat(february.endDate()).isEqualTo(LocalDate.of(2025, 2, 28));
+
+        BillingCycle leapFebruary = BillingCycle.of(card, YearMonth.of(2024, 2));
+        assertThat(leapFebruary.endDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+
+        // 2월 마감(28일) 다음 날부터 3월 주기가 시작된다
+        assertThat(BillingCycle.of(card, YearMonth.of(2025, 3)).startDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    void paymentDayNotAfterClosingDayRollsToNextMonth() {
+        BillingCycle cycle = BillingCycle.of(card(14, 1), YearMonth.of(2025, 6));
+        assertThat(cycle.startDate()).isEqualTo(LocalDate.of(2025, 5, 15));
+        assertThat(cycle.endDate()).isEqualTo(LocalDate.of(2025, 6, 14));
+        assertThat(cycle.paymentDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+
+        // 결제일이 마감일과 같아도 다음 달
+        assertThat(BillingCycle.of(card(14, 14), YearMonth.of(2025, 6)).paymentDate()).isEqualTo(LocalDate.of(2025, 7, 14));
+        // 결제일이 마감일보다 뒤면 같은 달
+        assertThat(BillingCycle.of(card(10, 25), YearMonth.of(2025, 6)).paymentDate()).isEqualTo(LocalDate.of(2025, 6, 25));
+    }
+
+    @Test
+    void containingPutsClosingDayInCurrentCycleAndNextDayInNextCycle() {
+        Card card = card(14, 1);
+
+        BillingCycle onClosingDay = BillingCycle.containing(card, LocalDate.of(2025, 6, 14));
+        assertThat(onClosingDay.statementMonth()).isEqualTo(YearMonth.of(2025, 6));
+        assertThat(onClosingDay.contains(LocalDate.of(2025, 6, 14))).isTrue();
+
+        BillingCycle dayAfter = BillingCycle.containing(card, LocalDate.of(2025, 6, 15));
+        assertThat(dayAfter.statementMonth()).isEqualTo(YearMonth.of(2025, 7));
+        assertThat(dayAfter.startDate()).isEqualTo(LocalDate.of(2025, 6, 15));
+
+        // 12월 마감 이후는 다음 해 1월 주기
+        assertThat(BillingCycle.containing(card, LocalDate.of(2025, 12, 20)).statementMonth()).isEqualTo(YearMonth.of(2026, 1));
+    }
+
+    @Test
+    void isClosedOnlyAfterClosingDay() {
+        BillingCycle cycle = BillingCycle.of(card(14, 1), YearMonth.of(2025, 6));
+        assertThat(cycle.isClosed(LocalDate.of(2025, 6, 14))).isFalse();
+        assertThat(cycle.isClosed(LocalDate.of(2025, 6, 15))).isTrue();
+    }
+
+    @Test
+    void cardWithoutBillingCycleIsRejected() {
+        assertThatThrownBy(() -> BillingCycle.of(new Card("체크", CardType.CHECK), YearMonth.of(2025, 6)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Card card(int closingDay, int paymentDay) {
+        Card card = new Card("테스트 카드", CardType.CREDIT);
+        card.updateBillingCycle(closingDay, paymentDay);
+        return card;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.account.repository;
+
+import org.example.account.BenchmarkTest;
+import org.example.account.domain.Budget;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 예산 기간 조회 벤치마크.
+ * 예산 이력을 단계별로 늘려 가며 period_month 범위 조회(uk_budget_period_category)와 예전 (year * 12 + month) 식 조회의
+ * EXPLAIN 결과와 지연 시간을 build/reports/benchmark/budget-queries.md 에 기록한다.
+ *
+ * 실행: ./gradlew :backend:benchmark -Dbenchmark.budgetRows=10000,100000,1000000
+ */
+@BenchmarkTest
+class BudgetQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetQueryBenchmark.class);
+
+    private static final int[] STAGES = Arrays.stream(System.getProperty("benchmark.budgetRows", "10000,100000,1000000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+    private static final int CATEGORIES = 200;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 20;
+    private static final int BASE_PERIOD = Budget.periodOf(1900, 1);
+    // 첫 단계 데이터 안쪽의 1년 구간 (카테고리 200개 x 12개월)
+    private static final int RANGE_START = BASE_PERIOD + 12;
+    private static final int RANGE_END = RANGE_START + 11;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StringBuilder report = new StringBuilder();
+
+    @Test
+    void benchmarkRangeLookupAsHistoryGrows() throws IOException {
+        List<Long> categoryIds = benchmarkCategories();
+
+        report.append("# Budget query benchmark\n\n")
+                .append("- categories: ").append(CATEGORIES).append(", range: 12 months\n")
+                .append("- iterations: ").append(ITERATIONS).append(" (warmup ").append(WARMUP).append(")\n\n");
+
+        int loaded = 0;
+        for (int rows : STAGES) {
+            loaded = load(categoryIds, loaded, rows);
+            jdbcTemplate.execute("ANALYZE TABLE budget");
+            long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM budget", Long.class);
+            report.append("## ").append(total).append(" budget rows\n\n");
+
+            measure("findByPeriodMonthBetween",
+                    "SELECT * FROM budget WHERE period_month BETWEEN ? AND ?",
+                    new Object[]{RANGE_START, RANGE_END},
+                    () -> budgetRepository.findByPeriodMonthBetweenOrderByPeriodMonthAsc(RANGE_START, RANGE_END).size());
+
+            measure("sumAmountByCategoryBetween",
+                    "SELECT category_id, SUM(amount) FROM budget WHERE period_month BETWEEN ? AND ? GROUP BY category_id",
+                    new Object[]{RANGE_START, RANGE_END},
+                    () -> budgetRepository.sumAmountByCategoryBetween(RANGE_START, RANGE_END).size());
+
+            String legacySql = "SELECT * FROM budget WHERE (year * 12 + month) >= ? AND (year * 12 + month) <= ?";
+            measure("legacy (year * 12 + month) range",
+                    legacySql,
+                    new Object[]{RANGE_START, RANGE_END},
+                    () -> jdbcTemplate.queryForList(legacySql, RANGE_START, RANGE_END).size());
+        }
+
+        Path output = Path.of("build", "reports", "benchmark", "budget-queries.md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+        log.info("\n{}", report);
+    }
+
+    private List<Long> benchmarkCategories() {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM category WHERE name LIKE 'bench-budget-%' ORDER BY id", Long.class);
+        for (int i = ids.size(); i < CATEGORIES; i++) {
+            jdbcTemplate.update("INSERT INTO category (name, type) VALUES (?, 'EXPENSE')", "bench-budget-" + i);
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM category WHERE name LIKE 'bench-budget-%' ORDER BY id", Long.class);
+    }
+
+    /**
+     * i번째 행 = (BASE_PERIOD + i / CATEGORIES, i % CATEGORIES번째 카테고리). 이미 있는 행은 건너뛴다 (재실행 대비)
+     */
+    private int load(List<Long> categoryIds, int from, int to) {
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = from; i < to; i++) {
+            int period = BASE_PERIOD + i / CATEGORIES;
+            batch.add(new Object[]{(period - 1) / 12, (period - 1) % 12 + 1, period, 100_000 + i % 900_000, categoryIds.get(i % CATEGORIES)});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        return Math.max(from, to);
+    }
+
+    private void insert(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO budget (year, month, period_month, amount, category_id) VALUES (?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private void measure(String name, String explainSql, Object[] args, Supplier<Integer> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            rows = call.get();
+            elapsed[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(elapsed);
+
+        report.append("### ").append(name).append("\n\n")
+                .append(String.format("- rows: %d, p50: %.2f ms, p95: %.2f ms, max: %.2f ms%n%n",
+                        rows, elapsed[ITERATIONS / 2] / 1e6, elapsed[ITERATIONS * 95 / 100] / 1e6, elapsed[ITERATIONS - 1] / 1e6))
+                .append("| table | type | key | rows | filtered | Extra |\n")
+                .append("|---|---|---|---|---|---|\n");
+        for (Map<String, Object> plan : jdbcTemplate.queryForList("EXPLAIN " + explainSql, args)) {
+            report.append("| ").append(plan.get("table"))
+                    .append(" | ").append(plan.get("type"))
+                    .append(" | ").append(plan.get("key"))
+                    .append(" | ").append(plan.get("rows"))
+                    .append(" | ").append(plan.get("filtered"))
+                    .append(" | ").append(plan.get("Extra"))
+                    .append(" |\n");
+        }
+        report.append('\n');
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.account.repository;
+
+import org.example.account.BenchmarkTest;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.dto.TransactionFilter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Transaction 테이블 조회 벤치마크.
+ * 별도 DB(account_benchmark)에 수백만 건의 합성 거래를 적재한 뒤 저장소 메서드별 EXPLAIN 결과와 지연 시간을
+ * build/reports/benchmark/transaction-queries.md 에 기록한다.
+ *
+ * 실행: ./gradlew :backend:benchmark -Dbenchmark.rows=3000000
+ */
+@BenchmarkTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionQueryBenchmark.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 20;
+    private static final LocalDate DATA_START = LocalDate.of(2010, 1, 1);
+    private static final int DATA_DAYS = 365 * 20;
+    private static final LocalDate MONTH_START = LocalDate.of(2020, 6, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2020, 6, 30);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StringBuilder report = new StringBuilder();
+    private long cardId;
+    private long recurringId;
+
+    @BeforeAll
+    void loadSyntheticRows() {
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM category", Long.class);
+        long assetId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM asset", Long.class);
+
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card", Long.class) == 0) {
+            for (int i = 1; i <= 5; i++) {
+                jdbcTemplate.update("INSERT INTO card (name, type) VALUES (?, 'CREDIT')", "bench-card-" + i);
+            }
+        }
+        List<Long> cardIds = jdbcTemplate.queryForList("SELECT id FROM card", Long.class);
+        cardId = cardIds.get(0);
+
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recurring_transaction", Long.class) == 0) {
+            for (int i = 1; i <= 50; i++) {
+                jdbcTemplate.update("INSERT INTO recurring_transaction (name, amount, day_of_month, payment_method, category_id) VALUES (?, 10000, ?, 'BANK_TRANSFER', ?)",
+                        "bench-rule-" + i, (i % 28) + 1, categoryIds.get(i % categoryIds.size()));
+            }
+        }
+        List<Long> recurringIds = jdbcTemplate.queryForList("SELECT id FROM recurring_transaction", Long.class);
+        recurringId = recurringIds.get(0);
+
+        long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction", Long.class);
+        Random random = new Random(42);
+        PaymentMethod[] methods = PaymentMethod.values();
+        LocalDate today = LocalDate.now();
+
+        long started = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long i = existing; i < ROWS; i++) {
+            LocalDate date = DATA_START.plusDays(random.nextInt(DATA_DAYS));
+            PaymentMethod method = methods[random.nextInt(methods.length)];
+            Long card = method == PaymentMethod.CARD ? cardIds.get(random.nextInt(cardIds.size())) : null;
+            Long recurring = random.nextInt(20) == 0 ? recurringIds.get(random.nextInt(recurringIds.size())) : null;
+            boolean confirmed = !date.isAfter(today) && random.nextInt(10) != 0;
+            batch.add(new Object[]{
+                    Date.valueOf(date), 1_000 + random.nextInt(500_000), "bench-" + i, method.name(),
+                    categoryIds.get(random.nextInt(categoryIds.size())), card, recurring, assetId, confirmed
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        jdbcTemplate.execute("ANALYZE TABLE transaction");
+
+        report.append("# Transaction query benchmark\n\n")
+                .append("- rows: ").append(ROWS).append(" (").append(ROWS - existing).append(" inserted in ")
+                .append((System.nanoTime() - started) / 1_000_000).append(" ms)\n")
+                .append("- iterations: ").append(ITERATIONS).append(" (warmup ").append(WARMUP).append(")\n\n");
+    }
+
+    @Test
+    void benchmarkRepositoryMethods() throws IOException {
+        measure("findByDateBetween (1 month)",
+                "SELECT * FROM transaction WHERE date BETWEEN ? AND ?",
+                new Object[]{MONTH_START, MONTH_END},
+                () -> transactionRepository.findByDateBetween(MONTH_START, MONTH_END).size());
+
+        measure("findByPaymentMethodAndDateBetween (1 month)",
+                "SELECT * FROM transaction WHERE payment_method = ? AND date BETWEEN ? AND ?",
+                new Object[]{PaymentMethod.CASH.name(), MONTH_START, MONTH_END},
+                () -> transactionRepository.findByPaymentMethodAndDateBetween(PaymentMethod.CASH, MONTH_START, MONTH_END).size());
+
+        measure("findByCardIdAndDateBetween (1 month)",
+                "SELECT * FROM transaction WHERE card_id = ? AND date BETWEEN ? AND ?",
+                new Object[]{cardId, MONTH_START, MONTH_END},
+                () -> transactionRepository.findByCardIdAndDateBetween(cardId, MONTH_START, MONTH_END).size());
+
+        measure("existsByRecurringTransactionIdAndDateBetween",
+                "SELECT id FROM transaction WHERE recurring_transaction_id = ? AND date BETWEEN ? AND ? LIMIT 1",
+                new Object[]{recurringId, MONTH_START, MONTH_END},
+                () -> transactionRepository.existsByRecurringTransactionIdAndDateBetween(recurringId, MONTH_START, MONTH_END) ? 1 : 0);
+
+        LocalDate today = LocalDate.now();
+        measure("findFuturePlannedTransactions",
+                "SELECT * FROM transaction WHERE date >= ? AND is_confirmed = false",
+                new Object[]{today},
+                () -> transactionRepository.findFuturePlannedTransactions(today).size());
+
+        measure("sumAmountByCategory (1 month)",
+                "SELECT category_id, is_confirmed, SUM(amount) FROM transaction WHERE date BETWEEN ? AND ? GROUP BY category_id, is_confirmed",
+                new Object[]{MONTH_START, MONTH_END},
+                () -> transactionRepository.sumAmountByCategory(MONTH_START, MONTH_END, null, null).size());
+
+        TransactionFilter yearFilter = new TransactionFilter(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), null, null, null, null, null, null);
+        measure("findPage (1 year, 100 rows, middle cursor)",
+                "SELECT * FROM transaction WHERE date BETWEEN ? AND ? AND (date > ? OR (date = ? AND id > ?)) ORDER BY date, id LIMIT 101",
+                new Object[]{yearFilter.startDate(), yearFilter.endDate(), MONTH_START, MONTH_START, 0L},
+                () -> transactionRepository.findPage(yearFilter, MONTH_START, 0L, 101).size());
+
+        Path output = Path.of("build", "reports", "benchmark", "transaction-queries.md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+        log.info("\n{}", report);
+    }
+
+    private void insert(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transaction (date, amount, memo, payment_method, category_id, card_id, recurring_transaction_id, asset_id, is_confirmed) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private void measure(String name, String explainSql, Object[] args, Supplier<Integer> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            rows = call.get();
+            elapsed[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(elapsed);
+
+        report.append("## ").append(name).append("\n\n")
+                .append(String.format("- rows: %d, p50: %.2f ms, p95: %.2f ms, max: %.2f ms%n%n",
+                        rows, elapsed[ITERATIONS / 2] / 1e6, elapsed[ITERATIONS * 95 / 100] / 1e6, elapsed[ITERATIONS - 1] / 1e6))
+                .append("| table | type | key | rows | filtered | Extra |\n")
+                .append("|---|---|---|---|---|---|\n");
+        for (Map<String, Object> plan : jdbcTemplate.queryForList("EXPLAIN " + explainSql, args)) {
+            report.append("| ").append(plan.get("table"))
+                    .append(" | ").append(plan.get("type"))
+                    .append(" | ").append(plan.get("key"))
+                    .append(" | ").append(plan.get("rows"))
+                    .append(" | ").append(plan.get("filtered"))
+                    .append(" | ").append(plan.get("Extra"))
+                    .append(" |\n");
+        }
+        report.append('\n');
+    }
+}
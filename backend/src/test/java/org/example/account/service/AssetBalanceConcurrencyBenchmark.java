@@ -0,0 +1,87 @@
+package org.example.account.service;
+
+import org.example.account.BenchmarkTest;
+import org.example.account.domain.Asset;
+import org.example.account.domain.AssetType;
+import org.example.account.domain.Category;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.TransactionRequest;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 같은 자산에 동시에 거래를 등록해도 잔액 갱신이 유실되지 않는지 확인하고 처리량을 기록한다.
+ */
+@BenchmarkTest
+class AssetBalanceConcurrencyBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetBalanceConcurrencyBenchmark.class);
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPS_PER_THREAD = Integer.getInteger("benchmark.opsPerThread", 200);
+    private static final BigDecimal AMOUNT = new BigDecimal("1000.00");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Test
+    void concurrentInsertsDoNotLoseBalanceUpdates() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        Category income = categoryRepository.save(new Category("동시성-수입-" + suffix, TransactionType.INCOME));
+        Asset asset = assetRepository.save(new Asset(AssetType.CASH, "동시성-자산-" + suffix, BigDecimal.ZERO, null));
+        TransactionRequest request = new TransactionRequest(
+                LocalDate.now(), AMOUNT, "동시성 검증", PaymentMethod.CASH, income.getId(), true, null, asset.getId(), null);
+
+        // 집계 행을 미리 만들어 두어 첫 upsert 경합을 측정에서 제외한다
+        transactionService.createTransaction(request);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < OPS_PER_THREAD; i++) {
+                        transactionService.createTransaction(request);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        int operations = THREADS * OPS_PER_THREAD;
+        BigDecimal expected = AMOUNT.multiply(BigDecimal.valueOf(operations + 1L));
+        BigDecimal actual = assetRepository.findById(asset.getId()).orElseThrow().getBalance();
+
+        log.info(String.format("자산 잔액 동시 갱신: %d스레드 x %d건, %dms, %.1f건/초, 잔액 %s (기대값 %s)",
+                THREADS, OPS_PER_THREAD, elapsedMillis, operations * 1000.0 / Math.max(elapsedMillis, 1), actual, expected));
+
+        assertThat(actual).isEqualByComparingTo(expected);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.account.service;
+
+import org.example.account.domain.Category;
+import org.example.account.domain.PaymentMethod;
+import org.example.account.domain.TransactionType;
+import org.example.account.repository.BudgetRepository;
+import org.example.account.repository.MonthlyCategorySummaryRepository;
+import org.example.account.repository.TransactionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예산 소진 카운터는 지출 카테고리만 센다. 트랜잭션 동기화가 없으므로 record는 바로 반영된다.
+ */
+class BudgetLiveServiceTest {
+
+    private static final Long FOOD = 1L;
+    private static final Long SALARY = 2L;
+    private static final LocalDate DATE = LocalDate.of(2999, 1, 10);
+
+    private BudgetLiveService service;
+
+    @BeforeEach
+    void setUp() {
+        MonthlyCategorySummaryRepository summaryRepository = mock(MonthlyCategorySummaryRepository.class);
+        BudgetRepository budgetRepository = mock(BudgetRepository.class);
+        ReferenceDataResolver referenceDataResolver = mock(ReferenceDataResolver.class);
+        when(summaryRepository.sumConfirmedByMonthAndCategory()).thenReturn(List.of());
+        when(budgetRepository.findAll()).thenReturn(List.of());
+        when(referenceDataResolver.findCategory(FOOD)).thenReturn(Optional.of(new Category("식비", TransactionType.EXPENSE)));
+        when(referenceDataResolver.findCategory(SALARY)).thenReturn(Optional.of(new Category("급여", TransactionType.INCOME)));
+
+        service = new BudgetLiveService(summaryRepository, budgetRepository, referenceDataResolver,
+                mock(ApplicationEventPublisher.class), new int[]{80, 100});
+        service.reload();
+    }
+
+    @Test
+    void incomeDoesNotChangeTotalSpent() {
+        service.record(changes(FOOD, 10_000));
+        long before = service.getLive(DATE.getYear(), DATE.getMonthValue()).totalSpent();
+
+        service.record(changes(SALARY, 3_000_000));
+
+        assertThat(before).isEqualTo(10_000);
+        assertThat(service.getLive(DATE.getYear(), DATE.getMonthValue()).totalSpent()).isEqualTo(before);
+    }
+
+    private static MonthlySummaryChanges changes(Long categoryId, long amount) {
+        MonthlySummaryChanges changes = new MonthlySummaryChanges();
+        changes.add(new TransactionRow(DATE, BigDecimal.valueOf(amount), "예산검증", PaymentMethod.CASH,
+                categoryId, null, null, null, null, true));
+        return changes;
+    }
+}
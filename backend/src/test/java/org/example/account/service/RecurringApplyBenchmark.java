@@ -0,0 +1,108 @@
+package org.example.account.service;
+
+import org.example.account.BenchmarkTest;
+import org.example.account.domain.Asset;
+import org.example.account.domain.AssetType;
+import org.example.account.domain.Category;
+import org.example.account.domain.TransactionType;
+import org.example.account.dto.ApplyRecurringResponse;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.CategoryRepository;
+import org.example.account.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정 비용 수천 건 일괄 적용 벤치마크.
+ * 첫 적용(전부 생성)과 재적용(생성할 것 없음) 시간을 규칙별 exists 쿼리를 반복하던 방식의 조회 시간과 함께
+ * build/reports/benchmark/recurring-apply.md 에 기록하고, 자산 잔액이 생성 건수만큼 정확히 반영됐는지 확인한다.
+ *
+ * 실행: ./gradlew :backend:benchmark -Dbenchmark.recurringRules=10000
+ */
+@BenchmarkTest
+class RecurringApplyBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringApplyBenchmark.class);
+
+    private static final int RULES = Integer.getInteger("benchmark.recurringRules", 5_000);
+    private static final BigDecimal AMOUNT = new BigDecimal("1000.00");
+
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void applyThousandsOfRules() throws IOException {
+        String suffix = String.valueOf(System.nanoTime());
+        Category expense = categoryRepository.save(new Category("고정비-벤치-" + suffix, TransactionType.EXPENSE));
+        Asset asset = assetRepository.save(new Asset(AssetType.CASH, "고정비-벤치-" + suffix, BigDecimal.ZERO, null));
+
+        // 매월 1일 규칙이므로 이번 달 거래는 모두 확정으로 생성되어 잔액에 반영된다
+        List<Object[]> rules = new ArrayList<>(RULES);
+        for (int i = 0; i < RULES; i++) {
+            rules.add(new Object[]{"bench-recurring-" + suffix + "-" + i, AMOUNT, expense.getId(), asset.getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO recurring_transaction (name, amount, day_of_month, payment_method, category_id, asset_id) " +
+                "VALUES (?, ?, 1, 'BANK_TRANSFER', ?, ?)", rules);
+        List<Long> ruleIds = jdbcTemplate.queryForList(
+                "SELECT id FROM recurring_transaction WHERE category_id = ?", Long.class, expense.getId());
+
+        long started = System.nanoTime();
+        ApplyRecurringResponse first = recurringTransactionService.applyAllRecurringTransactions();
+        long firstMillis = (System.nanoTime() - started) / 1_000_000;
+
+        started = System.nanoTime();
+        ApplyRecurringResponse second = recurringTransactionService.applyAllRecurringTransactions();
+        long secondMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // 비교 기준: 규칙마다 이번 달 거래 존재 여부를 따로 묻던 방식의 조회 비용
+        YearMonth month = YearMonth.now();
+        started = System.nanoTime();
+        for (Long id : ruleIds) {
+            transactionRepository.existsByRecurringTransactionIdAndDateBetween(id, month.atDay(1), month.atEndOfMonth());
+        }
+        long perRuleMillis = (System.nanoTime() - started) / 1_000_000;
+
+        BigDecimal expected = AMOUNT.multiply(BigDecimal.valueOf(RULES)).negate();
+        BigDecimal actual = assetRepository.findById(asset.getId()).orElseThrow().getBalance();
+
+        String report = "# Recurring apply benchmark\n\n" +
+                "- rules: " + RULES + "\n" +
+                "- first apply: " + first.appliedCount() + " created in " + firstMillis + " ms\n" +
+                "- re-apply: " + second.appliedCount() + " created in " + secondMillis + " ms\n" +
+                "- per-rule exists queries only: " + perRuleMillis + " ms\n" +
+                "- asset balance: " + actual + " (expected " + expected + ")\n";
+        Path output = Path.of("build", "reports", "benchmark", "recurring-apply.md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+        log.info("\n{}", report);
+
+        assertThat(first.appliedCount()).isGreaterThanOrEqualTo(RULES);
+        assertThat(second.appliedCount()).isZero();
+        assertThat(actual).isEqualByComparingTo(expected);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.account.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.account.domain.*;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.CategoryRepository;
+import org.example.account.repository.RecurringTransactionRepository;
+import org.example.account.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입금 자산 없는 저축/투자 고정 비용을 확정으로 적용했다가 그 거래를 삭제하면 출금 자산 잔액이 원래대로 돌아오는지 검증한다.
+ * 적용(apply)과 삭제(reverse)가 같은 규칙을 써야 잔액이 어긋나지 않는다. 테스트 트랜잭션은 롤백된다.
+ */
+@SpringBootTest
+@Transactional
+class RecurringBalanceTest {
+
+    private static final BigDecimal OPENING = BigDecimal.valueOf(100_000);
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(30_000);
+
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
+    @Autowired
+    private RecurringApplyService recurringApplyService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Asset asset;
+    private RecurringTransaction rule;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Category savings = categoryRepository.findByName("저축/투자")
+                .orElseGet(() -> categoryRepository.save(new Category("저축/투자", TransactionType.EXPENSE)));
+        asset = assetRepository.save(new Asset(AssetType.CASH, "고정비용잔액검증-" + suffix, OPENING, null));
+        // 매월 1일이라 이번 달 발생분은 항상 확정으로 만들어진다
+        rule = recurringTransactionRepository.save(new RecurringTransaction("고정비용잔액검증-" + suffix,
+                AMOUNT, 1, PaymentMethod.CASH, null, savings, asset, null, null, null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void singleApplyThenDeleteRestoresBalance() {
+        recurringTransactionService.applySingleRecurringTransaction(rule.getId());
+
+        assertConfirmedOccurrenceDebitedAndReversible();
+    }
+
+    @Test
+    void batchApplyThenDeleteRestoresBalance() {
+        YearMonth month = YearMonth.now();
+        RecurringTransaction loaded = recurringTransactionRepository.findById(rule.getId()).orElseThrow();
+        recurringApplyService.apply(List.of(loaded), month, month, LocalDate.now());
+
+        assertConfirmedOccurrenceDebitedAndReversible();
+    }
+
+    private void assertConfirmedOccurrenceDebitedAndReversible() {
+        entityManager.flush();
+        entityManager.clear();
+        List<Transaction> created = transactionRepository.findByAssetId(asset.getId());
+        assertThat(created).hasSize(1);
+        assertThat(created.get(0).isConfirmed()).isTrue();
+        assertThat(balance()).isEqualByComparingTo(OPENING.subtract(AMOUNT));
+
+        transactionService.deleteTransaction(created.get(0).getId());
+
+        assertThat(balance()).isEqualByComparingTo(OPENING);
+    }
+
+    private BigDecimal balance() {
+        entityManager.flush();
+        entityManager.clear();
+        return assetRepository.findById(asset.getId()).orElseThrow().getBalance();
+    }
+}
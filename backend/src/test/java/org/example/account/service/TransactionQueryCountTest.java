@@ -0,0 +1,154 @@
+package org.example.account.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.account.domain.*;
+import org.example.account.dto.TransactionFilter;
+import org.example.account.dto.TransactionResponse;
+import org.example.account.repository.AssetRepository;
+import org.example.account.repository.CardRepository;
+import org.example.account.config.CacheConfig;
+import org.example.account.repository.CategoryRepository;
+import org.example.account.repository.RecurringTransactionRepository;
+import org.example.account.repository.TransactionRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 목록 조회가 연관 엔티티(category/card/asset/toAsset) 지연 로딩으로 N+1 쿼리를 발생시키지 않는지 검증한다.
+ * 실제 데이터와 겹치지 않도록 먼 미래 날짜로 데이터를 만들고, 테스트 트랜잭션은 롤백된다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TransactionQueryCountTest {
+
+    private static final int ROW_COUNT = 20;
+    private static final int RECURRING_COUNT = 5;
+    private static final LocalDate START = LocalDate.of(2999, 1, 1);
+    private static final LocalDate END = LocalDate.of(2999, 1, 31);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Category food = categoryRepository.save(new Category("쿼리수검증-식비-" + suffix, TransactionType.EXPENSE));
+        Category transfer = categoryRepository.save(new Category("쿼리수검증-이체-" + suffix, TransactionType.TRANSFER));
+        card = cardRepository.save(new Card("쿼리수검증카드-" + suffix, CardType.CREDIT));
+        Card otherCard = cardRepository.save(new Card("쿼리수검증카드2-" + suffix, CardType.CHECK));
+        Asset from = assetRepository.save(new Asset(AssetType.CASH, "쿼리수검증-출금-" + suffix, BigDecimal.ZERO, null));
+        Asset to = assetRepository.save(new Asset(AssetType.SAVINGS, "쿼리수검증-입금-" + suffix, BigDecimal.ZERO, null));
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            boolean even = i % 2 == 0;
+            Transaction tx = new Transaction(
+                    START.plusDays(i),
+                    BigDecimal.valueOf(1000L + i),
+                    "쿼리수검증 " + i,
+                    PaymentMethod.CARD,
+                    even ? food : transfer,
+                    false,
+                    even ? card : otherCard
+            );
+            tx.associateAsset(from, even ? null : to);
+            transactionRepository.save(tx);
+        }
+
+        // 예정 거래 조회가 펼칠 고정 비용 규칙 (카드/카테고리/자산 지연 로딩이 규칙 수만큼 늘지 않는지 본다)
+        for (int i = 0; i < RECURRING_COUNT; i++) {
+            boolean even = i % 2 == 0;
+            recurringTransactionRepository.save(new RecurringTransaction("쿼리수검증-고정-" + i + "-" + suffix,
+                    BigDecimal.valueOf(5000L + i), 1 + i, PaymentMethod.CARD, even ? card : otherCard,
+                    even ? food : transfer, from, even ? null : to, null, null));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        // 기본 자산 캐시 적중 여부에 따라 쿼리 수가 달라지지 않게 비운다 (invalidate는 트랜잭션과 무관하게 즉시 반영)
+        cacheManager.getCache(CacheConfig.DEFAULT_ASSET).invalidate();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getTransactionsUsesSingleQuery() {
+        List<TransactionResponse> result = transactionService.getTransactions(START, END);
+
+        assertThat(result).hasSize(ROW_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTransactionsByPaymentMethodUsesSingleQuery() {
+        List<TransactionResponse> result = transactionService.getTransactionsByPaymentMethod(PaymentMethod.CARD, START, END);
+
+        assertThat(result).hasSize(ROW_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTransactionsByCardUsesSingleQuery() {
+        transactionService.getTransactionsByCard(card.getId(), START, END);
+        transactionService.getTransactionsByCard(card.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /**
+     * 예정 거래 1 + 생성된 (규칙, 월) 1 + 기본 자산 1 + 규칙(연관 포함) 1. 거래/규칙 수와 무관하게 고정이다.
+     */
+    @Test
+    void getFuturePlannedTransactionsUsesFixedQueryCount() {
+        List<TransactionResponse> result = transactionService.getFuturePlannedTransactions(LocalDate.now().plusMonths(2));
+
+        assertThat(result).filteredOn(r -> r.recurringTransactionId() != null && r.id() == null)
+                .hasSizeGreaterThanOrEqualTo(RECURRING_COUNT * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void getTransactionPageUsesSingleQuery() {
+        TransactionFilter filter = new TransactionFilter(START, END, null, null, null, null, null, null);
+        transactionService.getTransactionPage(filter, null, null, ROW_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}